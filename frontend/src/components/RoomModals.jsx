@@ -44,19 +44,15 @@ const RoomModals = ({user, show, onHide, content, contentType, onRoomCreated}) =
                 payload.title = content.title;
 
                 try {
-                    const seasonsRes = await axios.get(`${STORAGE_API_URL}/series/${content.id}/seasons?size=100`);
-                    const seasons = seasonsRes.data.content || seasonsRes.data || [];
+                    const treeRes = await axios.get(`${STORAGE_API_URL}/series/${content.id}/tree`);
+                    const seasons = treeRes.data.seasons || [];
 
                     if (seasons.length === 0) throw new Error("No seasons found");
-                    seasons.sort((a, b) => a.seasonNumber - b.seasonNumber);
                     const firstSeason = seasons[0];
-
-                    const episodesRes = await axios.get(`${STORAGE_API_URL}/series/seasons/${firstSeason.id}/episodes?size=100`);
-                    const episodes = episodesRes.data.content || episodesRes.data || [];
+                    const episodes = firstSeason.episodes || [];
 
                     if (episodes.length === 0) throw new Error("No episodes in season 1");
-                    episodes.sort((a, b) => a.episodeNumber - b.episodeNumber);
-                    const firstEpisode = episodes[0];
+                    const firstEpisode = {...episodes[0], seasonId: firstSeason.id};
 
                     payload.seasonId = firstEpisode.seasonId;
                     payload.episodeId = firstEpisode.id;
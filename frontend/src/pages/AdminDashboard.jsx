@@ -4,6 +4,8 @@ import {Accordion, Badge, Button, Card, Container, Form, Modal, ProgressBar, Tab
 import PaginationControl from '../components/PaginationControl';
 import {STORAGE_API_URL} from '../api';
 
+const UPLOAD_CONFIRM_FALLBACK_MS = 5000;
+
 const AdminDashboard = () => {
     const [moviePage, setMoviePage] = useState({content: [], totalPages: 0, number: 0});
     const [seriesPage, setSeriesPage] = useState({content: [], totalPages: 0, number: 0});
@@ -89,8 +91,60 @@ const AdminDashboard = () => {
         newTasks.forEach(task => processUpload(task));
     };
 
+    const watchUploadStatus = (uploadSessionId) => {
+        const source = new EventSource(`${STORAGE_API_URL}/files/uploads/${uploadSessionId}/events`);
+        const done = new Promise((resolve, reject) => {
+            source.addEventListener('status', (e) => {
+                const event = JSON.parse(e.data);
+                if (event.status === 'COMPLETED') resolve(event);
+                else if (event.status === 'FAILED') reject(new Error('Upload failed'));
+            });
+        });
+        return {done, close: () => source.close()};
+    };
+
+    const confirmUploadAfterDelay = (uploadSessionId, isSettled) => new Promise((resolve, reject) => {
+        setTimeout(async () => {
+            if (isSettled()) return;
+            try {
+                const res = await axios.post(`${STORAGE_API_URL}/files/uploads/${uploadSessionId}/complete`);
+                if (res.data.status === 'COMPLETED') resolve(res.data);
+                else if (res.data.status === 'FAILED') reject(new Error('Upload failed'));
+            } catch (e) {
+                reject(e);
+            }
+        }, UPLOAD_CONFIRM_FALLBACK_MS);
+    });
+
+    const applyCompletedMedia = (task, event) => {
+        const media = {
+            id: event.mediaFileId,
+            originalFilename: task.name,
+            contentType: task.file.type,
+            fileSize: event.fileSize,
+            category: task.category,
+            isPrimary: task.category === 'POSTER',
+            uploadStatus: event.status
+        };
+        const patch = (page) => ({
+            ...page,
+            content: page.content.map(item => item.id === task.entityId
+                ? {...item, mediaFiles: [...(item.mediaFiles || []).filter(m => m.id !== media.id), media]}
+                : item)
+        });
+
+        if (task.entityType === 'MOVIE') {
+            setMoviePage(patch);
+        } else if (task.entityType === 'SERIES') {
+            setSeriesPage(patch);
+        } else if (task.entityType === 'EPISODE' && task.parentId) {
+            triggerRefresh(`season-${task.parentId}`);
+        }
+    };
+
     const processUpload = async (task) => {
         updateTaskStatus(task.id, 'UPLOADING', 0);
+        let watcher = null;
         try {
             const initRes = await axios.post(`${STORAGE_API_URL}/files/upload`, {
                 originalFilename: task.file.name,
@@ -102,7 +156,8 @@ const AdminDashboard = () => {
                 isPrimary: task.category === 'POSTER'
             });
 
-            const {presignedUrl, minioObjectKey} = initRes.data;
+            const {presignedUrl, uploadSessionId} = initRes.data;
+            watcher = watchUploadStatus(uploadSessionId);
 
             await axios.put(presignedUrl, task.file, {
                 headers: {'Content-Type': task.file.type},
@@ -111,27 +166,24 @@ const AdminDashboard = () => {
                     updateTaskStatus(task.id, 'UPLOADING', percent);
                 }
             });
-
-            await axios.post(`${STORAGE_API_URL}/webhooks/minio/notification`, {
-                "Records": [{
-                    "eventName": "s3:ObjectCreated:Put",
-                    "s3": {"bucket": {"name": "movie-storage"}, "object": {"key": minioObjectKey}}
-                }]
+            updateTaskStatus(task.id, 'PROCESSING', 100);
+
+            let settled = false;
+            const event = await Promise.race([
+                watcher.done,
+                confirmUploadAfterDelay(uploadSessionId, () => settled)
+            ]).finally(() => {
+                settled = true;
             });
 
             updateTaskStatus(task.id, 'COMPLETED', 100);
-
-            if (task.entityType === 'MOVIE') {
-                fetchMovies(moviePage.number);
-            } else if (task.entityType === 'SERIES') {
-                fetchSeries(seriesPage.number);
-            } else if (task.entityType === 'EPISODE' && task.parentId) {
-                triggerRefresh(`season-${task.parentId}`);
-            }
+            applyCompletedMedia(task, event);
 
         } catch (error) {
             console.error("Upload failed", error);
             updateTaskStatus(task.id, 'ERROR', 0);
+        } finally {
+            watcher?.close();
         }
     };
 
@@ -7,6 +7,7 @@ import PaginationControl from '../components/PaginationControl';
 import {STORAGE_API_URL, SYNC_API_URL} from '../api';
 
 const PAGE_SIZE = 12;
+const SUGGEST_DEBOUNCE_MS = 120;
 
 const Dashboard = ({user}) => {
     const [moviesData, setMoviesData] = useState({content: [], totalPages: 0, page: 0, totalElements: 0});
@@ -17,7 +18,8 @@ const Dashboard = ({user}) => {
     const [showModal, setShowModal] = useState(false);
     const [modalContent, setModalContent] = useState(null);
     const [modalContentType, setModalContentType] = useState(null);
-    const [searchParams, setSearchParams] = useState({title: '', year: ''});
+    const [searchParams, setSearchParams] = useState({title: '', year: '', sort: 'recent'});
+    const [suggestions, setSuggestions] = useState([]);
 
     const navigate = useNavigate();
     const backgroundUrl = '/images/main-background.jpeg';
@@ -27,8 +29,10 @@ const Dashboard = ({user}) => {
             const params = {
                 page,
                 size: PAGE_SIZE,
+                fields: 'card,duration',
                 ...(searchParams.title && {title: searchParams.title}),
-                ...(searchParams.year && {year: searchParams.year})
+                ...(searchParams.year && {year: searchParams.year}),
+                sort: searchParams.sort
             };
 
             const res = await axios.get(`${STORAGE_API_URL}/movies`, {params});
@@ -50,8 +54,10 @@ const Dashboard = ({user}) => {
             const params = {
                 page,
                 size: PAGE_SIZE,
+                fields: 'card,totalSeasons,totalEpisodes',
                 ...(searchParams.title && {title: searchParams.title}),
-                ...(searchParams.year && {year: searchParams.year})
+                ...(searchParams.year && {year: searchParams.year}),
+                sort: searchParams.sort
             };
 
             const res = await axios.get(`${STORAGE_API_URL}/series`, {params});
@@ -83,6 +89,34 @@ const Dashboard = ({user}) => {
         fetchSeries(0);
     };
 
+    useEffect(() => {
+        const query = searchParams.title.trim();
+        if (!query) {
+            setSuggestions([]);
+            return;
+        }
+
+        const controller = new AbortController();
+        const timer = setTimeout(async () => {
+            try {
+                const res = await axios.get(`${STORAGE_API_URL}/suggest`, {
+                    params: {q: query, limit: 8},
+                    signal: controller.signal
+                });
+                setSuggestions([...new Set(res.data.map(s => s.title))]);
+            } catch (error) {
+                if (!axios.isCancel(error)) {
+                    setSuggestions([]);
+                }
+            }
+        }, SUGGEST_DEBOUNCE_MS);
+
+        return () => {
+            clearTimeout(timer);
+            controller.abort();
+        };
+    }, [searchParams.title]);
+
     useEffect(() => {
         const init = async () => {
             setLoading(true);
@@ -92,6 +126,13 @@ const Dashboard = ({user}) => {
         init();
     }, []);
 
+    useEffect(() => {
+        if (!loading) {
+            fetchMovies(0);
+            fetchSeries(0);
+        }
+    }, [searchParams.sort]);
+
     useEffect(() => {
         const fetchRooms = async () => {
             try {
@@ -189,9 +230,14 @@ const Dashboard = ({user}) => {
                                     type="text"
                                     className="form-control bg-dark text-white border-secondary"
                                     placeholder="Search by title..."
+                                    list="title-suggestions"
+                                    autoComplete="off"
                                     value={searchParams.title}
                                     onChange={(e) => setSearchParams({...searchParams, title: e.target.value})}
                                 />
+                                <datalist id="title-suggestions">
+                                    {suggestions.map(title => <option key={title} value={title}/>)}
+                                </datalist>
                             </div>
                             <div style={{maxWidth: '120px'}}>
                                 <input
@@ -202,6 +248,16 @@ const Dashboard = ({user}) => {
                                     onChange={(e) => setSearchParams({...searchParams, year: e.target.value})}
                                 />
                             </div>
+                            <div style={{maxWidth: '160px'}}>
+                                <select
+                                    className="form-select bg-dark text-white border-secondary"
+                                    value={searchParams.sort}
+                                    onChange={(e) => setSearchParams({...searchParams, sort: e.target.value})}
+                                >
+                                    <option value="recent">Newest</option>
+                                    <option value="popular">Most watched</option>
+                                </select>
+                            </div>
                             <Button type="submit" variant="primary">
                                 <i className="fas fa-search"></i>
                             </Button>
@@ -209,7 +265,7 @@ const Dashboard = ({user}) => {
                                 <Button
                                     variant="outline-secondary"
                                     onClick={() => {
-                                        setSearchParams({title: '', year: ''});
+                                        setSearchParams({...searchParams, title: '', year: ''});
                                         setTimeout(() => {
                                             fetchMovies(0);
                                             fetchSeries(0);
@@ -58,17 +58,21 @@ const Room = ({user}) => {
                     setCoverUrl(`${STORAGE_API_URL}/stream/series/${seriesId}/cover`);
                     setBackdropUrl(`${STORAGE_API_URL}/stream/series/${seriesId}/backdrop`);
 
-                    const seasonsRes = await axios.get(`${STORAGE_API_URL}/series/${seriesId}/seasons?size=100`);
-                    const seasons = seasonsRes.data.content || seasonsRes.data || [];
-                    seasons.sort((a, b) => a.seasonNumber - b.seasonNumber);
+                    const treeRes = await axios.get(`${STORAGE_API_URL}/series/${seriesId}/tree`);
+                    const seasons = treeRes.data.seasons || [];
+                    const episodesMap = Object.fromEntries(seasons.map(season => [
+                        season.id,
+                        (season.episodes || []).map(episode => ({...episode, seasonId: season.id}))
+                    ]));
                     setAvailableSeasons(seasons);
+                    setEpisodesBySeason(episodesMap);
 
                     const seasonId = initialRoom.currentSeasonId || (seasons.length > 0 ? seasons[0].id : null);
                     const episodeId = initialRoom.currentEpisodeId;
 
                     if (seasonId) {
                         setCurrentSeasonId(seasonId);
-                        const epList = await loadEpisodesForSeason(seasonId);
+                        const epList = episodesMap[seasonId] || await loadEpisodesForSeason(seasonId);
 
                         if (episodeId && epList) {
                             const foundEpisode = epList.find(e => e.id === episodeId);
@@ -169,7 +173,7 @@ const Room = ({user}) => {
             ...prev,
             currentEpisodeId: data.episodeId,
             currentSeasonId: data.seasonId,
-            currentTime: 0,
+            currentTime: data.currentTime ?? 0,
             isPlaying: false
         }));
 
@@ -186,7 +190,7 @@ const Room = ({user}) => {
             setStreamUrl(`${STORAGE_API_URL}/stream/episodes/${foundEpisode.id}`);
         }
 
-        playerRef.current?.syncVideoState('seek', 0, false, data.userId);
+        playerRef.current?.syncVideoState('seek', data.currentTime ?? 0, false, data.userId);
     };
 
     const sendMessage = (action, currentTime = null, payload = {}) => {
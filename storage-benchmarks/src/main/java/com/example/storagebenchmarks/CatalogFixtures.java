@@ -0,0 +1,130 @@
+package com.example.storagebenchmarks;
+
+import com.example.storageservice.model.BaseEntity;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.EpisodeMedia;
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.MediaFile;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.MovieMedia;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.SeasonMedia;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.SeriesMedia;
+import com.example.storageservice.model.UploadStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class CatalogFixtures {
+
+    private static final MediaCategory[] CATEGORIES = {MediaCategory.VIDEO, MediaCategory.POSTER, MediaCategory.BACKDROP};
+
+    private final AtomicLong ids = new AtomicLong();
+
+    Movie movie(int mediaCount) {
+        Movie movie = Movie.builder()
+                .id(ids.incrementAndGet())
+                .title("Movie " + ids.get())
+                .description("A reasonably long description used to make string copies realistic")
+                .year(2020)
+                .duration(120)
+                .build();
+        touch(movie);
+
+        for (int i = 0; i < mediaCount; i++) {
+            movie.getMedia().add(MovieMedia.builder()
+                    .id(ids.incrementAndGet())
+                    .movie(movie)
+                    .mediaFile(mediaFile())
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .isPrimary(i == 0)
+                    .build());
+        }
+        return movie;
+    }
+
+    Series series(int seasonCount, int episodesPerSeason, int mediaCount) {
+        Series series = Series.builder()
+                .id(ids.incrementAndGet())
+                .title("Series " + ids.get())
+                .description("A reasonably long description used to make string copies realistic")
+                .year(2018)
+                .seasonCount(seasonCount)
+                .episodeCount(seasonCount * episodesPerSeason)
+                .totalDuration(seasonCount * episodesPerSeason * 45)
+                .build();
+        touch(series);
+
+        for (int i = 0; i < mediaCount; i++) {
+            series.getMedia().add(SeriesMedia.builder()
+                    .id(ids.incrementAndGet())
+                    .series(series)
+                    .mediaFile(mediaFile())
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .isPrimary(i == 0)
+                    .build());
+        }
+
+        for (int s = 1; s <= seasonCount; s++) {
+            Season season = Season.builder()
+                    .id(ids.incrementAndGet())
+                    .seriesId(series.getId())
+                    .series(series)
+                    .seasonNumber(s)
+                    .title("Season " + s)
+                    .episodeCount(episodesPerSeason)
+                    .totalDuration(episodesPerSeason * 45)
+                    .build();
+            touch(season);
+            season.getMedia().add(SeasonMedia.builder()
+                    .id(ids.incrementAndGet())
+                    .season(season)
+                    .mediaFile(mediaFile())
+                    .category(MediaCategory.POSTER)
+                    .isPrimary(true)
+                    .build());
+
+            for (int e = 1; e <= episodesPerSeason; e++) {
+                Episode episode = Episode.builder()
+                        .id(ids.incrementAndGet())
+                        .seasonId(season.getId())
+                        .season(season)
+                        .episodeNumber(e)
+                        .title("Episode " + e)
+                        .duration(45)
+                        .build();
+                touch(episode);
+                episode.getMedia().add(EpisodeMedia.builder()
+                        .id(ids.incrementAndGet())
+                        .episode(episode)
+                        .mediaFile(mediaFile())
+                        .category(MediaCategory.VIDEO)
+                        .isPrimary(true)
+                        .build());
+                season.getEpisodes().add(episode);
+            }
+            series.getSeasons().add(season);
+        }
+        return series;
+    }
+
+    private MediaFile mediaFile() {
+        MediaFile file = MediaFile.builder()
+                .id(ids.incrementAndGet())
+                .originalFilename("file-" + ids.get() + ".mp4")
+                .contentType("video/mp4")
+                .fileSize(1_073_741_824L)
+                .minioBucket("movie-storage")
+                .minioObjectKey("movies/" + ids.get() + "/video/" + ids.get() + ".mp4")
+                .uploadStatus(UploadStatus.COMPLETED)
+                .build();
+        touch(file);
+        return file;
+    }
+
+    private void touch(BaseEntity entity) {
+        entity.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        entity.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.storagebenchmarks;
+
+import com.example.storageservice.mapper.EpisodeMapper;
+import com.example.storageservice.mapper.MediaMapper;
+import com.example.storageservice.mapper.MovieMapper;
+import com.example.storageservice.mapper.SeasonMapper;
+import com.example.storageservice.mapper.SeriesMapper;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.dto.EpisodeDto;
+import com.example.storageservice.model.dto.MovieDto;
+import com.example.storageservice.model.dto.SeasonDto;
+import com.example.storageservice.model.dto.SeriesDto;
+import com.example.storageservice.model.dto.UpdateMovieRequest;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// java -jar target/benchmarks.jar DtoMappingBenchmark -prof gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ModelMapper modelMapper;
+    private MediaMapper mediaMapper;
+    private MovieMapper movieMapper;
+    private SeriesMapper seriesMapper;
+    private SeasonMapper seasonMapper;
+    private EpisodeMapper episodeMapper;
+
+    private List<Movie> movies;
+    private Series series;
+    private Movie mergeTarget;
+    private UpdateMovieRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = LegacyModelMapperFactory.create();
+        mediaMapper = new MediaMapper();
+        movieMapper = new MovieMapper();
+        seriesMapper = new SeriesMapper();
+        seasonMapper = new SeasonMapper();
+        episodeMapper = new EpisodeMapper();
+
+        CatalogFixtures fixtures = new CatalogFixtures();
+        movies = IntStream.range(0, pageSize).mapToObj(i -> fixtures.movie(3)).toList();
+        series = fixtures.series(5, 12, 3);
+        mergeTarget = fixtures.movie(0);
+        updateRequest = new UpdateMovieRequest("Updated title", null, 2021, 130);
+    }
+
+    @Benchmark
+    public List<MovieDto> modelMapperMoviePage() {
+        return movies.stream().map(movie -> modelMapper.map(movie, MovieDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<MovieDto> handWrittenMoviePage() {
+        return movies.stream().map(this::toMovieDto).toList();
+    }
+
+    @Benchmark
+    public SeriesDto modelMapperSeriesTree() {
+        return modelMapper.map(series, SeriesDto.class);
+    }
+
+    @Benchmark
+    public SeriesDto handWrittenSeriesTree() {
+        List<SeasonDto> seasons = series.getSeasons().stream().map(this::toSeasonDto).toList();
+
+        return seriesMapper.toDto(series, series.getMedia().stream()
+                        .map(link -> mediaMapper.toDto(link.getMediaFile(), link.getCategory(), link.isPrimary()))
+                        .toList(),
+                seasons);
+    }
+
+    @Benchmark
+    public Movie modelMapperMerge() {
+        modelMapper.map(updateRequest, mergeTarget);
+        return mergeTarget;
+    }
+
+    @Benchmark
+    public Movie handWrittenMerge() {
+        movieMapper.update(updateRequest, mergeTarget);
+        return mergeTarget;
+    }
+
+    private MovieDto toMovieDto(Movie movie) {
+        return movieMapper.toDto(movie, movie.getMedia().stream()
+                .map(link -> mediaMapper.toDto(link.getMediaFile(), link.getCategory(), link.isPrimary()))
+                .toList());
+    }
+
+    private SeasonDto toSeasonDto(Season season) {
+        List<EpisodeDto> episodes = season.getEpisodes().stream().map(this::toEpisodeDto).toList();
+
+        return seasonMapper.toDto(season, season.getMedia().stream()
+                        .map(link -> mediaMapper.toDto(link.getMediaFile(), link.getCategory(), link.isPrimary()))
+                        .toList(),
+                episodes);
+    }
+
+    private EpisodeDto toEpisodeDto(Episode episode) {
+        return episodeMapper.toDto(episode, episode.getMedia().stream()
+                .map(link -> mediaMapper.toDto(link.getMediaFile(), link.getCategory(), link.isPrimary()))
+                .toList());
+    }
+}
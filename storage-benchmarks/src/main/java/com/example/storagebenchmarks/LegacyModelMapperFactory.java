@@ -1,4 +1,4 @@
-package com.example.storageservice.config;
+package com.example.storagebenchmarks;
 
 import com.example.storageservice.model.Episode;
 import com.example.storageservice.model.EpisodeMedia;
@@ -18,16 +18,15 @@ import com.example.storageservice.model.dto.SeriesDto;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
 import org.modelmapper.convention.MatchingStrategies;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 
-@Configuration
-public class ModelMapperConfig {
+public final class LegacyModelMapperFactory {
 
-    @Bean
-    public ModelMapper modelMapper() {
+    private LegacyModelMapperFactory() {
+    }
+
+    public static ModelMapper create() {
         ModelMapper mapper = new ModelMapper();
 
         mapper.getConfiguration()
@@ -98,7 +97,7 @@ public class ModelMapperConfig {
         return mapper;
     }
 
-    private MediaDto mapMediaFile(MediaFile file, MediaCategory category, boolean isPrimary) {
+    private static MediaDto mapMediaFile(MediaFile file, MediaCategory category, boolean isPrimary) {
         if (file == null) return null;
         return MediaDto.builder()
                 .id(file.getId())
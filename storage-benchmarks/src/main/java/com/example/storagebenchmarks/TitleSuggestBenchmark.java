@@ -0,0 +1,90 @@
+package com.example.storagebenchmarks;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.util.TitlePrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// java -jar target/benchmarks.jar TitleSuggestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TitleSuggestBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "star", "night", "dark", "house", "of", "dragon", "lost", "city", "river", "king", "queen",
+            "shadow", "summer", "winter", "last", "first", "empire", "wild", "blue", "storm", "secret", "garden",
+            "ocean", "fire", "iron", "golden", "silent", "broken", "crown", "edge", "world", "return", "legend",
+            "hunter", "ghost", "stranger", "things", "mountain", "desert", "planet", "war", "peace", "love", "road",
+            "machine", "island", "north", "south", "light", "black", "mirror", "glass", "paper", "moon", "sun"
+    };
+
+    @Param({"100000"})
+    private int catalogSize;
+
+    @Param({"s", "star", "star wa", "dark hou", "zzz"})
+    private String query;
+
+    private TitlePrefixIndex index;
+    private String[] tokens;
+    private int[] results;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TitlePrefixIndex.Builder builder = TitlePrefixIndex.builder();
+
+        for (int i = 1; i <= catalogSize; i++) {
+            int kind = random.nextInt(10);
+            EntityType type = kind < 3 ? EntityType.MOVIE : kind < 4 ? EntityType.SERIES : EntityType.EPISODE;
+            long seriesId = type == EntityType.MOVIE ? 0 : 1 + random.nextInt(catalogSize / 50 + 1);
+            long seasonId = type == EntityType.EPISODE ? 1 + random.nextInt(catalogSize / 10 + 1) : 0;
+            builder.add(type, i, title(random), seriesId, seasonId);
+        }
+
+        index = builder.build();
+        tokens = TitlePrefixIndex.tokenize(TitlePrefixIndex.normalize(query));
+        results = new int[10];
+    }
+
+    @Benchmark
+    public int search() {
+        return index.search(tokens, key -> false, results);
+    }
+
+    @Benchmark
+    public int normalizeAndSearch() {
+        return index.search(TitlePrefixIndex.tokenize(TitlePrefixIndex.normalize(query)), key -> false, new int[10]);
+    }
+
+    private String title(Random random) {
+        int words = 1 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                title.append(' ');
+            }
+            String word = WORDS[random.nextInt(WORDS.length)];
+            title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        if (random.nextInt(4) == 0) {
+            title.append(' ').append(1 + random.nextInt(9));
+        }
+        return title.toString();
+    }
+}
@@ -23,4 +23,14 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "importTaskExecutor")
+    public Executor importTaskExecutor(LibraryImportProperties libraryImportProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(libraryImportProperties.getParallelism());
+        executor.setMaxPoolSize(libraryImportProperties.getParallelism());
+        executor.setThreadNamePrefix("Import-");
+        executor.initialize();
+        return executor;
+    }
 }
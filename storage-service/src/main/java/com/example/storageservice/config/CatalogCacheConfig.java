@@ -0,0 +1,40 @@
+package com.example.storageservice.config;
+
+import com.example.storageservice.service.CatalogDtoCache;
+import com.example.storageservice.service.SeriesTreeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CatalogCacheConfig {
+
+    @Bean
+    public Cache<CatalogDtoCache.Key, Object> catalogDtoCaffeineCache(CatalogCacheProperties catalogCacheProperties,
+                                                                    MeterRegistry meterRegistry) {
+        Cache<CatalogDtoCache.Key, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(catalogCacheProperties.getMaximumSize().toBytes())
+                .weigher(CatalogDtoCache::weigh)
+                .expireAfterWrite(catalogCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog-dto");
+    }
+
+    @Bean
+    public Cache<Long, SeriesTreeService.Snapshot> seriesTreeCaffeineCache(CatalogCacheProperties catalogCacheProperties,
+                                                                          MeterRegistry meterRegistry) {
+        Cache<Long, SeriesTreeService.Snapshot> cache = Caffeine.newBuilder()
+                .maximumWeight(catalogCacheProperties.getTreeMaximumSize().toBytes())
+                .weigher((Long seriesId, SeriesTreeService.Snapshot snapshot) -> snapshot.weight())
+                .expireAfterWrite(catalogCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "series-tree");
+    }
+}
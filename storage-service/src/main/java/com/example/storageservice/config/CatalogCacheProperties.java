@@ -0,0 +1,17 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.catalog-cache")
+@Data
+public class CatalogCacheProperties {
+    private DataSize maximumSize = DataSize.ofMegabytes(64);
+    private Duration expireAfterWrite = Duration.ofHours(6);
+    private DataSize treeMaximumSize = DataSize.ofMegabytes(32);
+}
@@ -0,0 +1,16 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.catalog-counters")
+@Data
+public class CatalogCountersProperties {
+    private Duration verifyInterval = Duration.ofHours(6);
+    private Duration lockTimeout = Duration.ofSeconds(5);
+    private int chunkSize = 500;
+}
@@ -0,0 +1,13 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "storage.catalog-transfer")
+@Data
+public class CatalogTransferProperties {
+    private int fetchSize = 1000;
+    private int batchSize = 500;
+}
@@ -0,0 +1,19 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.change-feed")
+@Data
+public class ChangeFeedProperties {
+    private Duration retention = Duration.ofDays(7);
+    private Duration pruneInterval = Duration.ofHours(1);
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private int streamBatchSize = 500;
+}
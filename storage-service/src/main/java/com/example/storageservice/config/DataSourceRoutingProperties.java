@@ -0,0 +1,28 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "storage.datasource-routing")
+@Data
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private int replicaPoolSize = 10;
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
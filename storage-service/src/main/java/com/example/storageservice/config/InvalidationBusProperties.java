@@ -0,0 +1,18 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.invalidation-bus")
+@Data
+public class InvalidationBusProperties {
+    private boolean enabled = true;
+    private String channel = "storage_invalidation";
+    private Duration pollTimeout = Duration.ofSeconds(1);
+    private Duration healthCheckInterval = Duration.ofSeconds(30);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -0,0 +1,14 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.jobs")
+@Data
+public class JobCoordinationProperties {
+    private Duration maxJitter = Duration.ofSeconds(5);
+}
@@ -0,0 +1,16 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "storage.library-import")
+@Data
+public class LibraryImportProperties {
+    private String root = "/import";
+    private int parallelism = 4;
+    private DataSize partSize = DataSize.ofMegabytes(64);
+    private int retainedJobs = 20;
+}
@@ -0,0 +1,49 @@
+package com.example.storageservice.config;
+
+import io.minio.MinioClient;
+import io.minio.SetBucketNotificationArgs;
+import io.minio.messages.EventType;
+import io.minio.messages.NotificationConfiguration;
+import io.minio.messages.QueueConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MinioNotificationConfigurer {
+
+    private final MinioClient minioClient;
+    private final MinioProperties minioProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerBucketNotification() {
+        String queueArn = minioProperties.getNotificationQueueArn();
+        if (queueArn == null || queueArn.isBlank()) {
+            log.info("MinIO bucket notifications not configured, uploads are confirmed through the complete endpoint");
+            return;
+        }
+
+        QueueConfiguration queue = new QueueConfiguration();
+        queue.setQueue(queueArn);
+        queue.setEvents(List.of(EventType.OBJECT_CREATED_ANY));
+
+        NotificationConfiguration configuration = new NotificationConfiguration();
+        configuration.setQueueConfigurationList(List.of(queue));
+
+        try {
+            minioClient.setBucketNotification(SetBucketNotificationArgs.builder()
+                    .bucket(minioProperties.getBucket())
+                    .config(configuration)
+                    .build());
+            log.info("Registered MinIO bucket notification for {} -> {}", minioProperties.getBucket(), queueArn);
+        } catch (Exception e) {
+            log.warn("Failed to register MinIO bucket notification for {}: {}", minioProperties.getBucket(), e.getMessage());
+        }
+    }
+}
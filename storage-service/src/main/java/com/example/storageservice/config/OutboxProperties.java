@@ -0,0 +1,17 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.outbox")
+@Data
+public class OutboxProperties {
+    private int batchSize = 1000;
+    private Duration pollInterval = Duration.ofSeconds(5);
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofHours(1);
+}
@@ -0,0 +1,14 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.playback-stats")
+@Data
+public class PlaybackStatsProperties {
+    private Duration flushInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,100 @@
+package com.example.storageservice.config;
+
+import com.example.storageservice.util.DataSourceRoutingContext;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final String REPLICATION_LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE coalesce(extract(epoch FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxReplicationLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas, Duration maxReplicationLag) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxReplicationLag = maxReplicationLag;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || DataSourceRoutingContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    public void checkReplicas() {
+        List<String> healthy = replicas.entrySet().stream()
+                .filter(entry -> isHealthy(entry.getKey(), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Read replicas in rotation changed: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    public int healthyReplicaCount() {
+        return healthyReplicas.size();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private boolean isHealthy(String name, HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(REPLICATION_LAG_SQL)) {
+            rs.next();
+            long lagMillis = rs.getLong(1);
+            if (lagMillis > maxReplicationLag.toMillis()) {
+                log.debug("Replica {} lags {} ms behind the primary", name, lagMillis);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("Replica {} health check failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
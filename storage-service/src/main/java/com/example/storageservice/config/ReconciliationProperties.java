@@ -0,0 +1,18 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.reconciliation")
+@Data
+public class ReconciliationProperties {
+    private int pageSize = 1000;
+    private int sampleSize = 100;
+    private Duration orphanGracePeriod = Duration.ofHours(1);
+    private String cron = "-";
+    private Duration minimumSpacing = Duration.ofHours(1);
+}
@@ -0,0 +1,14 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "storage.response-cache")
+@Data
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private int cachedPages = 3;
+    private int maxEntries = 64;
+}
@@ -0,0 +1,13 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "storage.sql-instrumentation")
+@Data
+public class SqlInstrumentationProperties {
+    private boolean enabled = true;
+    private boolean exposeHeaders = false;
+}
@@ -0,0 +1,16 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.suggest")
+@Data
+public class SuggestProperties {
+    private int scanFetchSize = 5000;
+    private int compactionThreshold = 2048;
+    private Duration compactionInterval = Duration.ofMinutes(1);
+}
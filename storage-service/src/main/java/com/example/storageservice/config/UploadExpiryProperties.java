@@ -0,0 +1,15 @@
+package com.example.storageservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "storage.upload-expiry")
+@Data
+public class UploadExpiryProperties {
+    private int chunkSize = 500;
+    private Duration sweepInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,44 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.dto.CatalogImportResult;
+import com.example.storageservice.service.CatalogTransferService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class CatalogTransferController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final CatalogTransferService catalogTransferService;
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportCatalog(HttpServletResponse response) throws IOException {
+        log.info("Exporting catalog");
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"catalog-" + LocalDate.now() + ".ndjson\"");
+        catalogTransferService.exportCatalog(response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<CatalogImportResult> importCatalog(InputStream body) throws IOException {
+        log.info("Importing catalog");
+        CatalogImportResult result = catalogTransferService.importCatalog(body);
+
+        return ResponseEntity.ok(result);
+    }
+}
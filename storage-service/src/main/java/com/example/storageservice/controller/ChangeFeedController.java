@@ -0,0 +1,49 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.dto.ChangeFeedPage;
+import com.example.storageservice.service.CatalogChangeFeedService;
+import com.example.storageservice.service.CatalogChangeStreamService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Validated
+public class ChangeFeedController {
+
+    private final CatalogChangeFeedService catalogChangeFeedService;
+    private final CatalogChangeStreamService catalogChangeStreamService;
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedPage> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        ChangeFeedPage page = catalogChangeFeedService.getChanges(since, limit);
+
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(required = false) @Min(0) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = catalogChangeStreamService.subscribe(lastEventId != null ? lastEventId : since);
+
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(emitter);
+    }
+}
@@ -1,16 +1,25 @@
 package com.example.storageservice.controller;
 
+import com.example.storageservice.model.EntityType;
 import com.example.storageservice.model.dto.FileUploadRequest;
 import com.example.storageservice.model.dto.FileUploadResponse;
+import com.example.storageservice.model.dto.UploadStatusDto;
 import com.example.storageservice.service.FileUploadService;
+import com.example.storageservice.service.UploadStatusStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FileUploadController {
 
     private final FileUploadService fileUploadService;
+    private final UploadStatusStreamService uploadStatusStreamService;
 
     @PostMapping("/upload")
     public ResponseEntity<FileUploadResponse> initiateFileUpload(@Valid @RequestBody FileUploadRequest request) {
@@ -26,4 +36,28 @@ public class FileUploadController {
 
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/uploads/{uploadSessionId}/complete")
+    public ResponseEntity<UploadStatusDto> completeUpload(@PathVariable String uploadSessionId) {
+        UploadStatusDto status = fileUploadService.confirmUpload(uploadSessionId);
+
+        return ResponseEntity.ok(status);
+    }
+
+    @GetMapping(value = "/uploads/{uploadSessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUploadEvents(@PathVariable String uploadSessionId) {
+        return streamResponse(uploadStatusStreamService.subscribeToSession(uploadSessionId));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEntityEvents(@RequestParam EntityType entityType, @RequestParam Long entityId) {
+        return streamResponse(uploadStatusStreamService.subscribeToEntity(entityType, entityId));
+    }
+
+    private ResponseEntity<SseEmitter> streamResponse(SseEmitter emitter) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(emitter);
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.dto.ImportJobDto;
+import com.example.storageservice.model.dto.LibraryImportManifest;
+import com.example.storageservice.service.LibraryImportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/library-imports")
+@RequiredArgsConstructor
+public class LibraryImportController {
+
+    private final LibraryImportService libraryImportService;
+
+    @PostMapping
+    public ResponseEntity<ImportJobDto> startImport(@Valid @RequestBody LibraryImportManifest manifest) {
+        log.info("Starting library import: {} movies, {} series", manifest.getMovies().size(), manifest.getSeries().size());
+        ImportJobDto job = libraryImportService.startImport(manifest);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/scan")
+    public ResponseEntity<LibraryImportManifest> previewScan(@RequestParam(required = false) String path) {
+        log.info("Scanning import directory: {}", path);
+        LibraryImportManifest manifest = libraryImportService.scan(path);
+
+        return ResponseEntity.ok(manifest);
+    }
+
+    @PostMapping("/scan")
+    public ResponseEntity<ImportJobDto> importScan(@RequestParam(required = false) String path) {
+        log.info("Importing scanned directory: {}", path);
+        ImportJobDto job = libraryImportService.startImport(libraryImportService.scan(path));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ImportJobDto>> getJobs() {
+        return ResponseEntity.ok(libraryImportService.getJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobDto> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(libraryImportService.getJob(jobId));
+    }
+}
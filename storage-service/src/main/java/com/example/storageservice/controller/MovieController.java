@@ -1,6 +1,8 @@
 package com.example.storageservice.controller;
 
+import com.example.storageservice.annotation.StatementBudget;
 import com.example.storageservice.model.dto.CreateMovieRequest;
+import com.example.storageservice.model.dto.CursorPage;
 import com.example.storageservice.model.dto.MovieDto;
 import com.example.storageservice.model.dto.UpdateMovieRequest;
 import com.example.storageservice.service.MovieService;
@@ -32,17 +34,33 @@ public class MovieController {
     private final MovieService movieService;
 
     @GetMapping
+    @StatementBudget(3)
     public ResponseEntity<Page<MovieDto>> getAllMovies(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) Integer year) {
-        Page<MovieDto> movies = movieService.getAllMovies(page, size, title, year);
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "recent") String sort) {
+        Page<MovieDto> movies = movieService.getAllMovies(page, size, title, year, fields, sort);
 
         return ResponseEntity.ok(movies);
     }
 
+    @GetMapping("/scroll")
+    @StatementBudget(3)
+    public ResponseEntity<CursorPage<MovieDto>> scrollMovies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Integer year) {
+        CursorPage<MovieDto> page = movieService.scrollMovies(cursor, size, title, year);
+
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
+    @StatementBudget(2)
     public ResponseEntity<MovieDto> getMovieById(@PathVariable Long id) {
         MovieDto movie = movieService.getMovieById(id);
 
@@ -80,9 +98,11 @@ public class MovieController {
             @RequestParam(required = false) Integer minDuration,
             @RequestParam(required = false) Integer maxDuration,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "recent") String sort) {
         log.info("Searching movies with filters - title: {}, year: {}, minDuration: {}, maxDuration: {}", title, year, minDuration, maxDuration);
-        Page<MovieDto> movies = movieService.searchMovies(title, year, minDuration, maxDuration, page, size);
+        Page<MovieDto> movies = movieService.searchMovies(title, year, minDuration, maxDuration, page, size, fields, sort);
 
         return ResponseEntity.ok(movies);
     }
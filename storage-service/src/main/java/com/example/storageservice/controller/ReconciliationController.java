@@ -0,0 +1,28 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.dto.ReconciliationReport;
+import com.example.storageservice.service.StorageReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final StorageReconciliationService storageReconciliationService;
+
+    @PostMapping
+    public ResponseEntity<ReconciliationReport> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        log.info("Running storage reconciliation, repair: {}", repair);
+        ReconciliationReport report = storageReconciliationService.reconcile(repair);
+
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.SearchResultDto;
+import com.example.storageservice.service.CatalogSearchService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Validated
+public class SearchController {
+
+    private final CatalogSearchService catalogSearchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(required = false) Set<EntityType> types,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit) {
+        List<SearchResultDto> results = catalogSearchService.search(q, types, limit);
+
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.storageservice.controller;
 
+import com.example.storageservice.annotation.StatementBudget;
+import com.example.storageservice.model.dto.BatchCreateEpisodesRequest;
+import com.example.storageservice.model.dto.BatchCreateResultDto;
+import com.example.storageservice.model.dto.BatchCreateSeasonsRequest;
 import com.example.storageservice.model.dto.CreateEpisodeRequest;
 import com.example.storageservice.model.dto.CreateSeasonRequest;
 import com.example.storageservice.model.dto.CreateSeriesRequest;
+import com.example.storageservice.model.dto.CursorPage;
 import com.example.storageservice.model.dto.EpisodeDto;
 import com.example.storageservice.model.dto.SeasonDto;
 import com.example.storageservice.model.dto.SeriesDto;
@@ -10,12 +15,16 @@ import com.example.storageservice.model.dto.UpdateEpisodeRequest;
 import com.example.storageservice.model.dto.UpdateSeasonRequest;
 import com.example.storageservice.model.dto.UpdateSeriesRequest;
 import com.example.storageservice.service.SeriesService;
+import com.example.storageservice.service.SeriesTreeService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -36,20 +46,37 @@ import org.springframework.web.bind.annotation.RestController;
 public class SeriesController {
 
     private final SeriesService seriesService;
+    private final SeriesTreeService seriesTreeService;
 
     @GetMapping
+    @StatementBudget(3)
     public ResponseEntity<Page<SeriesDto>> getAllSeries(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) Integer year) {
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "recent") String sort) {
         log.info("Getting all series - page: {}, size: {}, title: {}, year: {}", page, size, title, year);
-        Page<SeriesDto> series = seriesService.getAllSeries(page, size, title, year);
+        Page<SeriesDto> series = seriesService.getAllSeries(page, size, title, year, fields, sort);
 
         return ResponseEntity.ok(series);
     }
 
+    @GetMapping("/scroll")
+    @StatementBudget(3)
+    public ResponseEntity<CursorPage<SeriesDto>> scrollSeries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Integer year) {
+        CursorPage<SeriesDto> page = seriesService.scrollSeries(cursor, size, title, year);
+
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
+    @StatementBudget(6)
     public ResponseEntity<SeriesDto> getSeriesById(@PathVariable Long id) {
         log.info("Getting series by ID: {}", id);
         SeriesDto series = seriesService.getSeriesById(id);
@@ -57,6 +84,22 @@ public class SeriesController {
         return ResponseEntity.ok(series);
     }
 
+    @GetMapping("/{id}/tree")
+    @StatementBudget(6)
+    public ResponseEntity<byte[]> getSeriesTree(@PathVariable Long id, WebRequest webRequest) {
+        log.debug("Getting series tree for ID: {}", id);
+        SeriesTreeService.Snapshot tree = seriesTreeService.getTree(id);
+        if (webRequest.checkNotModified(tree.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(tree.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(tree.body());
+    }
+
     @PostMapping
     public ResponseEntity<SeriesDto> createSeries(@Valid @RequestBody CreateSeriesRequest request) {
         log.info("Creating series: {}", request.getTitle());
@@ -82,6 +125,7 @@ public class SeriesController {
     }
 
     @GetMapping("/{seriesId}/seasons")
+    @StatementBudget(4)
     public ResponseEntity<Page<SeasonDto>> getSeasonsBySeries(
             @PathVariable Long seriesId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
@@ -93,6 +137,7 @@ public class SeriesController {
     }
 
     @GetMapping("/seasons/{seasonId}")
+    @StatementBudget(4)
     public ResponseEntity<SeasonDto> getSeasonById(@PathVariable Long seasonId) {
         log.info("Getting season by ID: {}", seasonId);
         SeasonDto season = seriesService.getSeasonById(seasonId);
@@ -109,6 +154,15 @@ public class SeriesController {
         return ResponseEntity.ok(season);
     }
 
+    @PostMapping("/{seriesId}/seasons:batch")
+    public ResponseEntity<BatchCreateResultDto> createSeasons(@PathVariable Long seriesId,
+                                                              @Valid @RequestBody BatchCreateSeasonsRequest request) {
+        log.info("Creating {} seasons for series {}", request.getSeasons().size(), seriesId);
+        BatchCreateResultDto result = seriesService.createSeasons(seriesId, request);
+
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/seasons/{seasonId}")
     public ResponseEntity<SeasonDto> updateSeason(@PathVariable Long seasonId, @Valid @RequestBody UpdateSeasonRequest request) {
         log.info("Updating season ID: {}", seasonId);
@@ -126,17 +180,22 @@ public class SeriesController {
     }
 
     @GetMapping("/seasons/{seasonId}/episodes")
-    public ResponseEntity<Page<EpisodeDto>> getEpisodesBySeason(
+    @StatementBudget(4)
+    public ResponseEntity<Slice<EpisodeDto>> getEpisodesBySeason(
             @PathVariable Long seasonId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) @Min(0) Integer afterEpisodeNumber) {
         log.info("Getting episodes for season ID: {}", seasonId);
-        Page<EpisodeDto> episodes = seriesService.getEpisodesBySeason(seasonId, page, size);
+        Slice<EpisodeDto> episodes = afterEpisodeNumber != null
+                ? seriesService.getEpisodesBySeasonAfter(seasonId, afterEpisodeNumber, size)
+                : seriesService.getEpisodesBySeason(seasonId, page, size);
 
         return ResponseEntity.ok(episodes);
     }
 
     @GetMapping("/episodes/{episodeId}")
+    @StatementBudget(2)
     public ResponseEntity<EpisodeDto> getEpisodeById(@PathVariable Long episodeId) {
         log.info("Getting episode by ID: {}", episodeId);
         EpisodeDto episode = seriesService.getEpisodeById(episodeId);
@@ -153,6 +212,15 @@ public class SeriesController {
         return ResponseEntity.ok(episode);
     }
 
+    @PostMapping("/seasons/{seasonId}/episodes:batch")
+    public ResponseEntity<BatchCreateResultDto> createEpisodes(@PathVariable Long seasonId,
+                                                               @Valid @RequestBody BatchCreateEpisodesRequest request) {
+        log.info("Creating {} episodes for season {}", request.getEpisodes().size(), seasonId);
+        BatchCreateResultDto result = seriesService.createEpisodes(seasonId, request);
+
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/episodes/{episodeId}")
     public ResponseEntity<EpisodeDto> updateEpisode(@PathVariable Long episodeId, @Valid @RequestBody UpdateEpisodeRequest request) {
         log.info("Updating episode ID: {}", episodeId);
@@ -176,10 +244,12 @@ public class SeriesController {
             @RequestParam(required = false) Integer minSeasons,
             @RequestParam(required = false) Integer maxSeasons,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "recent") String sort) {
         log.info("Searching series with filters - title: {}, year: {}, minSeasons: {}, maxSeasons: {}",
                 title, year, minSeasons, maxSeasons);
-        Page<SeriesDto> series = seriesService.searchSeries(title, year, minSeasons, maxSeasons, page, size);
+        Page<SeriesDto> series = seriesService.searchSeries(title, year, minSeasons, maxSeasons, page, size, fields, sort);
 
         return ResponseEntity.ok(series);
     }
@@ -193,6 +263,7 @@ public class SeriesController {
     }
 
     @GetMapping("/{seriesId}/episodes")
+    @StatementBudget(3)
     public ResponseEntity<Page<EpisodeDto>> getAllEpisodesBySeries(
             @PathVariable Long seriesId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
@@ -1,5 +1,6 @@
 package com.example.storageservice.controller;
 
+import com.example.storageservice.annotation.StatementBudget;
 import com.example.storageservice.service.StreamingService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class StreamingController {
     private final StreamingService streamingService;
 
     @GetMapping("/movies/{movieId}")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> streamMovie(@PathVariable Long movieId, HttpServletRequest request) {
         String clientIp = getClientIpAddress(request);
         String rangeHeader = request.getHeader("Range");
@@ -29,6 +31,7 @@ public class StreamingController {
     }
 
     @GetMapping("/episodes/{episodeId}")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> streamEpisode(@PathVariable Long episodeId, HttpServletRequest request) {
         String clientIp = getClientIpAddress(request);
         String rangeHeader = request.getHeader("Range");
@@ -38,6 +41,7 @@ public class StreamingController {
     }
 
     @GetMapping("/movies/{movieId}/cover")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> getMovieCover(@PathVariable Long movieId) {
         log.info("Getting cover for movie ID: {}", movieId);
 
@@ -45,6 +49,7 @@ public class StreamingController {
     }
 
     @GetMapping("/episodes/{episodeId}/cover")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> getEpisodeCover(@PathVariable Long episodeId) {
         log.info("Getting cover for episode ID: {}", episodeId);
 
@@ -52,17 +57,20 @@ public class StreamingController {
     }
 
     @GetMapping("/series/{seriesId}/cover")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> getSeriesCover(@PathVariable Long seriesId) {
         return streamingService.getSeriesCover(seriesId);
     }
 
     @GetMapping("/movies/{movieId}/backdrop")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> getMovieBackdrop(@PathVariable Long movieId) {
         log.info("Getting backdrop for movie ID: {}", movieId);
         return streamingService.getMovieBackdrop(movieId);
     }
 
     @GetMapping("/series/{seriesId}/backdrop")
+    @StatementBudget(1)
     public ResponseEntity<InputStreamResource> getSeriesBackdrop(@PathVariable Long seriesId) {
         log.info("Getting backdrop for series ID: {}", seriesId);
         return streamingService.getSeriesBackdrop(seriesId);
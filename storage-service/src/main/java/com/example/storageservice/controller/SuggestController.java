@@ -0,0 +1,35 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.dto.SuggestionDto;
+import com.example.storageservice.service.TitleSuggestService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+@Validated
+public class SuggestController {
+
+    private final TitleSuggestService titleSuggestService;
+
+    @GetMapping
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+        List<SuggestionDto> suggestions = titleSuggestService.suggest(q, limit);
+
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.storageservice.controller;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.SaveWatchProgressRequest;
+import com.example.storageservice.model.dto.WatchProgressDto;
+import com.example.storageservice.service.WatchProgressService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/progress")
+@RequiredArgsConstructor
+@Validated
+public class WatchProgressController {
+
+    private final WatchProgressService watchProgressService;
+
+    @PutMapping
+    public ResponseEntity<Void> saveProgress(@Valid @RequestBody SaveWatchProgressRequest request) {
+        log.debug("Saving {} watch progress entries", request.getEntries().size());
+        watchProgressService.saveProgress(request.getEntries());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<List<WatchProgressDto>> getRecentProgress(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        List<WatchProgressDto> progress = watchProgressService.getRecentProgress(userId, limit);
+
+        return ResponseEntity.ok(progress);
+    }
+
+    @GetMapping("/{userId}/{contentType}/{contentId}")
+    public ResponseEntity<WatchProgressDto> getProgress(
+            @PathVariable String userId,
+            @PathVariable EntityType contentType,
+            @PathVariable Long contentId) {
+        return ResponseEntity.of(watchProgressService.getProgress(userId, contentType, contentId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.storageservice.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class CacheFlushEvent {
+    String reason;
+
+    @Builder.Default
+    LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -0,0 +1,22 @@
+package com.example.storageservice.event;
+
+import com.example.storageservice.model.EntityType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CatalogChange {
+    EntityType entityType;
+    Long entityId;
+    Operation operation;
+    String title;
+    Long seriesId;
+    Long seasonId;
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
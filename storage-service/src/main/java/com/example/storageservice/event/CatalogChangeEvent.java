@@ -0,0 +1,20 @@
+package com.example.storageservice.event;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class CatalogChangeEvent {
+    @Singular
+    List<CatalogChange> changes;
+
+    boolean remote;
+
+    @Builder.Default
+    LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -0,0 +1,24 @@
+package com.example.storageservice.event;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.UploadStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class MediaStatusEvent {
+    Long mediaFileId;
+    String uploadSessionId;
+    UploadStatus status;
+    EntityType entityType;
+    Long entityId;
+    Long fileSize;
+    Integer progress;
+    boolean remote;
+
+    @Builder.Default
+    LocalDateTime timestamp = LocalDateTime.now();
+}
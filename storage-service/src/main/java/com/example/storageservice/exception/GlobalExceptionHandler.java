@@ -28,6 +28,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Validation Error", exception.getMessage());
     }
 
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeFeedExpiredException(ChangeFeedExpiredException exception) {
+        log.info("Change feed position expired: {}", exception.getMessage());
+        return buildErrorResponse(HttpStatus.GONE, "Change Feed Expired", exception.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException exception) {
         log.error("Method argument validation failed: ", exception);
@@ -0,0 +1,177 @@
+package com.example.storageservice.filter;
+
+import com.example.storageservice.config.ResponseCacheProperties;
+import com.example.storageservice.service.CatalogResponseCache;
+import com.example.storageservice.service.CatalogResponseCache.CachedResponse;
+import com.example.storageservice.util.CatalogSort;
+import com.example.storageservice.util.DataSourceRoutingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CACHED_PATHS = Set.of("/api/movies", "/api/series");
+    private static final Set<String> CACHED_PARAMS = Set.of("page", "size", "fields", "sort");
+    private static final String DEFAULT_PAGE = "0";
+    private static final String DEFAULT_SIZE = "20";
+
+    private final CatalogResponseCache catalogResponseCache;
+    private final ResponseCacheProperties responseCacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !responseCacheProperties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !CACHED_PATHS.contains(request.getRequestURI())
+                || request.getHeader(HttpHeaders.ORIGIN) != null
+                || !CACHED_PARAMS.containsAll(request.getParameterMap().keySet())
+                || !isRecentSort(request.getParameter("sort"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = catalogResponseCache.get(key);
+        if (cached != null) {
+            record("hit");
+            serve(cached, request, response);
+            return;
+        }
+
+        long generation = catalogResponseCache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean primaryRequired = DataSourceRoutingContext.isPrimaryRequired();
+        DataSourceRoutingContext.requirePrimary();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            if (!primaryRequired) {
+                DataSourceRoutingContext.clear();
+            }
+        }
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || !isJson(wrapper.getContentType())) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        record("miss");
+        CachedResponse stored = catalogResponseCache.store(key, generation, wrapper.getContentType(), wrapper.getContentAsByteArray());
+        serve(stored, request, response);
+    }
+
+    private boolean isRecentSort(String sort) {
+        return sort == null || CatalogSort.RECENT.name().equalsIgnoreCase(sort.trim());
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String page = valueOrDefault(request.getParameter("page"), DEFAULT_PAGE);
+        String size = valueOrDefault(request.getParameter("size"), DEFAULT_SIZE);
+        try {
+            int pageNumber = Integer.parseInt(page);
+            int pageSize = Integer.parseInt(size);
+            if (pageNumber < 0 || pageNumber >= responseCacheProperties.getCachedPages()) {
+                return null;
+            }
+            String fields = request.getParameter("fields");
+            return request.getRequestURI() + "?page=" + pageNumber + "&size=" + pageSize
+                    + (fields != null ? "&fields=" + fields : "");
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void serve(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? cached.gzipEtag() : cached.etag();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached)) {
+            record("not-modified");
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = gzip ? cached.gzipBody() : cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean matches(String ifNoneMatch, CachedResponse cached) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(cached.etag()) || tag.equals(cached.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private String valueOrDefault(String value, String defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("storage.response-cache.requests", "result", result).increment();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.storageservice.filter;
+
+import com.example.storageservice.annotation.StatementBudget;
+import com.example.storageservice.config.SqlInstrumentationProperties;
+import com.example.storageservice.util.SqlStatementContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "storage.sql-instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+    static final String BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private static final Set<String> STREAMING_PREFIXES = Set.of("/api/stream/", "/api/admin/export", "/api/changes");
+
+    private final SqlInstrumentationProperties sqlInstrumentationProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = sqlInstrumentationProperties.isExposeHeaders() && !isStreaming(request)
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        SqlStatementContext.Stats stats = SqlStatementContext.start();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlStatementContext.clear();
+        }
+
+        Integer budget = budget(request);
+        record(request, stats, budget);
+
+        if (wrapper != null) {
+            wrapper.setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            wrapper.setHeader(TIME_HEADER, Long.toString(Duration.ofNanos(stats.nanos()).toMillis()));
+            if (budget != null) {
+                wrapper.setHeader(BUDGET_HEADER, Integer.toString(budget));
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementContext.Stats stats, Integer budget) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("storage.sql.statements")
+                .tag("method", method)
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(stats.statements());
+        meterRegistry.timer("storage.sql.time", "method", method, "route", route)
+                .record(Duration.ofNanos(stats.nanos()));
+
+        if (budget != null && stats.statements() > budget) {
+            meterRegistry.counter("storage.sql.budget.exceeded", "method", method, "route", route).increment();
+            log.warn("{} {} executed {} SQL statements, budget is {}", method, route, stats.statements(), budget);
+        }
+    }
+
+    private Integer budget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            StatementBudget budget = handler.getMethodAnnotation(StatementBudget.class);
+            return budget != null ? budget.value() : null;
+        }
+        return null;
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return STREAMING_PREFIXES.stream().anyMatch(uri::startsWith);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.storageservice.mapper;
+
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.dto.CreateEpisodeRequest;
+import com.example.storageservice.model.dto.EpisodeDto;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.UpdateEpisodeRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class EpisodeMapper {
+
+    public Episode toEntity(CreateEpisodeRequest request) {
+        return Episode.builder()
+                .seasonId(request.getSeasonId())
+                .episodeNumber(request.getEpisodeNumber())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .duration(request.getDuration())
+                .build();
+    }
+
+    public void update(UpdateEpisodeRequest request, Episode episode) {
+        episode.setTitle(request.getTitle());
+        episode.setDescription(request.getDescription());
+        episode.setDuration(request.getDuration());
+    }
+
+    public EpisodeDto toDto(Episode episode, List<MediaDto> mediaFiles) {
+        return EpisodeDto.builder()
+                .id(episode.getId())
+                .seasonId(episode.getSeasonId())
+                .episodeNumber(episode.getEpisodeNumber())
+                .title(episode.getTitle())
+                .description(episode.getDescription())
+                .duration(episode.getDuration())
+                .createdAt(episode.getCreatedAt())
+                .updatedAt(episode.getUpdatedAt())
+                .mediaFiles(mediaFiles)
+                .build();
+    }
+}
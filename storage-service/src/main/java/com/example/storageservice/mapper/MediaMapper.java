@@ -0,0 +1,40 @@
+package com.example.storageservice.mapper;
+
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.MediaFile;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.repository.MediaLinkRow;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MediaMapper {
+
+    public MediaDto toDto(MediaLinkRow row) {
+        return MediaDto.builder()
+                .id(row.getId())
+                .originalFilename(row.getOriginalFilename())
+                .contentType(row.getContentType())
+                .fileSize(row.getFileSize())
+                .category(row.getCategory())
+                .isPrimary(row.getIsPrimary())
+                .uploadStatus(row.getUploadStatus())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+
+    public MediaDto toDto(MediaFile file, MediaCategory category, boolean isPrimary) {
+        if (file == null) {
+            return null;
+        }
+        return MediaDto.builder()
+                .id(file.getId())
+                .originalFilename(file.getOriginalFilename())
+                .contentType(file.getContentType())
+                .fileSize(file.getFileSize())
+                .category(category)
+                .isPrimary(isPrimary)
+                .uploadStatus(file.getUploadStatus())
+                .createdAt(file.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.storageservice.mapper;
+
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.dto.CreateMovieRequest;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.MovieDto;
+import com.example.storageservice.model.dto.UpdateMovieRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class MovieMapper {
+
+    public Movie toEntity(CreateMovieRequest request) {
+        return Movie.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .year(request.getYear())
+                .duration(request.getDuration())
+                .build();
+    }
+
+    public void update(UpdateMovieRequest request, Movie movie) {
+        movie.setTitle(request.getTitle());
+        movie.setDescription(request.getDescription());
+        movie.setYear(request.getYear());
+        movie.setDuration(request.getDuration());
+    }
+
+    public MovieDto toDto(Movie movie, List<MediaDto> mediaFiles) {
+        return MovieDto.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .description(movie.getDescription())
+                .year(movie.getYear())
+                .duration(movie.getDuration())
+                .createdAt(movie.getCreatedAt())
+                .updatedAt(movie.getUpdatedAt())
+                .mediaFiles(mediaFiles)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.storageservice.mapper;
+
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.dto.CreateSeasonRequest;
+import com.example.storageservice.model.dto.EpisodeDto;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.SeasonDto;
+import com.example.storageservice.model.dto.UpdateSeasonRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SeasonMapper {
+
+    public Season toEntity(CreateSeasonRequest request) {
+        return Season.builder()
+                .seriesId(request.getSeriesId())
+                .seasonNumber(request.getSeasonNumber())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .build();
+    }
+
+    public void update(UpdateSeasonRequest request, Season season) {
+        season.setTitle(request.getTitle());
+        season.setDescription(request.getDescription());
+    }
+
+    public SeasonDto toDto(Season season, List<MediaDto> mediaFiles, List<EpisodeDto> episodes) {
+        return SeasonDto.builder()
+                .id(season.getId())
+                .seriesId(season.getSeriesId())
+                .seasonNumber(season.getSeasonNumber())
+                .title(season.getTitle())
+                .description(season.getDescription())
+                .createdAt(season.getCreatedAt())
+                .updatedAt(season.getUpdatedAt())
+                .totalEpisodes(valueOrZero(season.getEpisodeCount()))
+                .totalDuration(valueOrZero(season.getTotalDuration()))
+                .episodes(episodes)
+                .mediaFiles(mediaFiles)
+                .build();
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
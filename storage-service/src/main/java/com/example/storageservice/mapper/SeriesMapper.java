@@ -0,0 +1,49 @@
+package com.example.storageservice.mapper;
+
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.dto.CreateSeriesRequest;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.SeasonDto;
+import com.example.storageservice.model.dto.SeriesDto;
+import com.example.storageservice.model.dto.UpdateSeriesRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SeriesMapper {
+
+    public Series toEntity(CreateSeriesRequest request) {
+        return Series.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .year(request.getYear())
+                .build();
+    }
+
+    public void update(UpdateSeriesRequest request, Series series) {
+        series.setTitle(request.getTitle());
+        series.setDescription(request.getDescription());
+        series.setYear(request.getYear());
+    }
+
+    public SeriesDto toDto(Series series, List<MediaDto> mediaFiles, List<SeasonDto> seasons) {
+        return SeriesDto.builder()
+                .id(series.getId())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .year(series.getYear())
+                .createdAt(series.getCreatedAt())
+                .updatedAt(series.getUpdatedAt())
+                .totalSeasons(valueOrZero(series.getSeasonCount()))
+                .totalEpisodes(valueOrZero(series.getEpisodeCount()))
+                .totalDuration(valueOrZero(series.getTotalDuration()))
+                .seasons(seasons)
+                .mediaFiles(mediaFiles)
+                .build();
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
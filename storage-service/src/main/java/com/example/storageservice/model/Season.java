@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,7 +30,8 @@ import java.util.List;
 @Table(name = "seasons")
 public class Season extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seasons_id_seq")
+    @SequenceGenerator(name = "seasons_id_seq", sequenceName = "seasons_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "series_id", nullable = false)
@@ -48,6 +50,12 @@ public class Season extends BaseEntity {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "episode_count", insertable = false, updatable = false)
+    private Integer episodeCount;
+
+    @Column(name = "total_duration", insertable = false, updatable = false)
+    private Integer totalDuration;
+
     @Builder.Default
     @OneToMany(mappedBy = "season", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Episode> episodes = new ArrayList<>();
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +28,8 @@ import java.util.List;
 @Table(name = "series")
 public class Series extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_id_seq")
+    @SequenceGenerator(name = "series_id_seq", sequenceName = "series_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "title", nullable = false)
@@ -39,6 +41,18 @@ public class Series extends BaseEntity {
     @Column(name = "year")
     private Integer year;
 
+    @Column(name = "season_count", insertable = false, updatable = false)
+    private Integer seasonCount;
+
+    @Column(name = "episode_count", insertable = false, updatable = false)
+    private Integer episodeCount;
+
+    @Column(name = "total_duration", insertable = false, updatable = false)
+    private Integer totalDuration;
+
+    @Column(name = "play_count", insertable = false, updatable = false)
+    private Long playCount;
+
     @Builder.Default
     @OneToMany(mappedBy = "series", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Season> seasons = new ArrayList<>();
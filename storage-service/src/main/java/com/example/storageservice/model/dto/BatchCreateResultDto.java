@@ -0,0 +1,37 @@
+package com.example.storageservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchCreateResultDto {
+    private int created;
+    private int duplicates;
+
+    @Builder.Default
+    private List<Item> items = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Item {
+        private int index;
+        private Integer number;
+        private Long id;
+        private Status status;
+    }
+
+    public enum Status {
+        CREATED,
+        DUPLICATE
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CatalogChangeDto {
+    private long version;
+    private EntityType entityType;
+    private Long entityId;
+    private Operation operation;
+    private Long seriesId;
+    private Long seasonId;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.storageservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CatalogImportResult {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long records;
+    private long mediaFiles;
+    private long movies;
+    private long series;
+    private long seasons;
+    private long episodes;
+    private long mediaLinks;
+    private long skippedSeasons;
+    private long skippedEpisodes;
+}
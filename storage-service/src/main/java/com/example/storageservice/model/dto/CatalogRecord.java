@@ -0,0 +1,120 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.UploadStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CatalogRecord.MediaFile.class, name = "media_file"),
+        @JsonSubTypes.Type(value = CatalogRecord.Movie.class, name = "movie"),
+        @JsonSubTypes.Type(value = CatalogRecord.Series.class, name = "series"),
+        @JsonSubTypes.Type(value = CatalogRecord.Season.class, name = "season"),
+        @JsonSubTypes.Type(value = CatalogRecord.Episode.class, name = "episode"),
+        @JsonSubTypes.Type(value = CatalogRecord.MediaLink.class, name = "media_link")
+})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public abstract class CatalogRecord {
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class MediaFile extends CatalogRecord {
+        private Long id;
+        private String originalFilename;
+        private String contentType;
+        private Long fileSize;
+        private String bucket;
+        private String objectKey;
+        private UploadStatus uploadStatus;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Movie extends CatalogRecord {
+        private Long id;
+        private String title;
+        private String description;
+        private Integer year;
+        private Integer duration;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Series extends CatalogRecord {
+        private Long id;
+        private String title;
+        private String description;
+        private Integer year;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Season extends CatalogRecord {
+        private Long id;
+        private Long seriesId;
+        private Integer seasonNumber;
+        private String title;
+        private String description;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Episode extends CatalogRecord {
+        private Long id;
+        private Long seasonId;
+        private Long seriesId;
+        private Integer episodeNumber;
+        private String title;
+        private String description;
+        private Integer duration;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class MediaLink extends CatalogRecord {
+        private Long id;
+        private EntityType ownerType;
+        private Long ownerId;
+        private Long mediaFileId;
+        private MediaCategory category;
+        private boolean primary;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.storageservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChangeFeedPage {
+    @Builder.Default
+    private List<CatalogChangeDto> changes = new ArrayList<>();
+    private long nextVersion;
+    private boolean hasMore;
+}
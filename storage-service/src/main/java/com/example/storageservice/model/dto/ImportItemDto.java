@@ -0,0 +1,30 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImportItemDto {
+    private EntityType entityType;
+    private Long entityId;
+    private String path;
+    private MediaCategory category;
+    private Long fileSize;
+    private Long mediaFileId;
+    private volatile Status status;
+    private volatile String error;
+
+    public enum Status {
+        PENDING,
+        UPLOADING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.storageservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImportJobDto {
+    private String id;
+    private Status status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int moviesCreated;
+    private int seriesCreated;
+    private int seasonsCreated;
+    private int episodesCreated;
+    private int totalFiles;
+    private int completedFiles;
+    private int failedFiles;
+    private long totalBytes;
+    private long uploadedBytes;
+
+    @Builder.Default
+    private List<ImportItemDto> items = new ArrayList<>();
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        COMPLETED_WITH_ERRORS
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.UploadStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class InvalidationMessage {
+    private String origin;
+    private boolean flush;
+
+    @Builder.Default
+    private List<Change> changes = new ArrayList<>();
+
+    @Builder.Default
+    private List<Media> media = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Change {
+        private EntityType type;
+        private Long id;
+        private Operation op;
+        private String title;
+        private Long seriesId;
+        private Long seasonId;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Media {
+        private EntityType type;
+        private Long id;
+        private Long mediaFileId;
+        private UploadStatus status;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.MediaCategory;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LibraryImportManifest {
+
+    @Valid
+    @Builder.Default
+    private List<MovieImportItem> movies = new ArrayList<>();
+
+    @Valid
+    @Builder.Default
+    private List<SeriesImportItem> series = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class MovieImportItem {
+        @NotBlank(message = "Title is required")
+        private String title;
+        private String description;
+        private Integer year;
+        private Integer duration;
+
+        @Valid
+        @Builder.Default
+        private List<ImportFile> files = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class SeriesImportItem {
+        @NotBlank(message = "Title is required")
+        private String title;
+        private String description;
+        private Integer year;
+
+        @Valid
+        @Builder.Default
+        private List<ImportFile> files = new ArrayList<>();
+
+        @Valid
+        @Builder.Default
+        private List<SeasonImportItem> seasons = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class SeasonImportItem {
+        @NotNull(message = "Season number is required")
+        @Min(value = 1, message = "Season number must be at least 1")
+        private Integer seasonNumber;
+        private String title;
+        private String description;
+
+        @Valid
+        @Builder.Default
+        private List<ImportFile> files = new ArrayList<>();
+
+        @Valid
+        @Builder.Default
+        private List<EpisodeImportItem> episodes = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class EpisodeImportItem {
+        @NotNull(message = "Episode number is required")
+        @Min(value = 1, message = "Episode number must be at least 1")
+        private Integer episodeNumber;
+        private String title;
+        private String description;
+        private Integer duration;
+
+        @Valid
+        @Builder.Default
+        private List<ImportFile> files = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class ImportFile {
+        @NotBlank(message = "File path is required")
+        private String path;
+
+        @NotNull(message = "Media category is required")
+        private MediaCategory category;
+
+        private boolean primary;
+        private String contentType;
+    }
+}
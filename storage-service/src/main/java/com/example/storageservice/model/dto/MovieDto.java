@@ -1,5 +1,6 @@
 package com.example.storageservice.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,12 +13,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MovieDto {
     private Long id;
     private String title;
     private String description;
     private Integer year;
     private Integer duration;
+    private Long posterId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<MediaDto> mediaFiles;
@@ -0,0 +1,40 @@
+package com.example.storageservice.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReconciliationReport {
+    private String bucket;
+    private boolean repair;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long objectsScanned;
+    private long rowsScanned;
+    private long orphanedObjects;
+    private long missingObjects;
+    private long sizeMismatches;
+    private long unconfirmedUploads;
+    private long repaired;
+
+    @Builder.Default
+    private List<String> orphanedObjectKeys = new ArrayList<>();
+
+    @Builder.Default
+    private List<Long> missingObjectMediaIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<Long> sizeMismatchMediaIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<Long> unconfirmedUploadMediaIds = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package com.example.storageservice.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SaveWatchProgressRequest {
+
+    @NotEmpty(message = "At least one entry is required")
+    @Size(max = 1000, message = "No more than 1000 entries can be saved at once")
+    private List<@Valid @NotNull WatchProgressDto> entries;
+}
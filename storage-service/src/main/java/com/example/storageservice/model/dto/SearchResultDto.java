@@ -0,0 +1,24 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SearchResultDto {
+    private EntityType type;
+    private Long id;
+    private String title;
+    private String description;
+    private Integer year;
+    private Long seriesId;
+    private Long seasonId;
+    private Integer seasonNumber;
+    private Integer episodeNumber;
+    private double score;
+}
@@ -21,6 +21,7 @@ public class SeasonDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer totalEpisodes;
+    private Integer totalDuration;
     private List<EpisodeDto> episodes;
     private List<MediaDto> mediaFiles;
 }
@@ -1,5 +1,6 @@
 package com.example.storageservice.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class SeriesDto {
     private Long id;
     private String title;
@@ -21,6 +23,8 @@ public class SeriesDto {
     private LocalDateTime updatedAt;
     private Integer totalSeasons;
     private Integer totalEpisodes;
+    private Integer totalDuration;
+    private Long posterId;
     private List<SeasonDto> seasons;
     private List<MediaDto> mediaFiles;
 }
@@ -0,0 +1,76 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.UploadStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SeriesTreeDto {
+    private Long id;
+    private String title;
+    private String description;
+    private Integer year;
+    private Integer totalSeasons;
+    private Integer totalEpisodes;
+    private Integer totalDuration;
+
+    @Builder.Default
+    private List<MediaRef> media = new ArrayList<>();
+
+    @Builder.Default
+    private List<SeasonNode> seasons = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class SeasonNode {
+        private Long id;
+        private Integer seasonNumber;
+        private String title;
+        private String description;
+        private Integer totalEpisodes;
+        private Integer totalDuration;
+
+        @Builder.Default
+        private List<MediaRef> media = new ArrayList<>();
+
+        @Builder.Default
+        private List<EpisodeNode> episodes = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class EpisodeNode {
+        private Long id;
+        private Integer episodeNumber;
+        private String title;
+        private String description;
+        private Integer duration;
+
+        @Builder.Default
+        private List<MediaRef> media = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class MediaRef {
+        private Long id;
+        private MediaCategory category;
+        private String contentType;
+        private UploadStatus uploadStatus;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SuggestionDto {
+    private EntityType type;
+    private Long id;
+    private String title;
+    private Long seriesId;
+    private Long seasonId;
+}
@@ -0,0 +1,25 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.UploadStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UploadStatusDto {
+    private Long mediaFileId;
+    private String uploadSessionId;
+    private UploadStatus status;
+    private EntityType entityType;
+    private Long entityId;
+    private Long fileSize;
+    private Integer progress;
+    private LocalDateTime timestamp;
+}
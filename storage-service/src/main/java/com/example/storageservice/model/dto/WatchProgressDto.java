@@ -0,0 +1,37 @@
+package com.example.storageservice.model.dto;
+
+import com.example.storageservice.model.EntityType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WatchProgressDto {
+
+    @NotBlank(message = "User ID is required")
+    @Size(max = 100, message = "User ID must be less than 100 characters")
+    private String userId;
+
+    @NotNull(message = "Content type is required")
+    private EntityType contentType;
+
+    @NotNull(message = "Content ID is required")
+    private Long contentId;
+
+    @NotNull(message = "Position is required")
+    @PositiveOrZero(message = "Position cannot be negative")
+    private Double position;
+
+    @NotNull(message = "Update time is required")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,119 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.storageservice.model.BaseEntity.ID_ALLOCATION_SIZE;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SEASON =
+            "INSERT INTO seasons (id, series_id, season_number, title, description, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, now(), now())";
+    private static final String INSERT_EPISODE =
+            "INSERT INTO episodes (id, season_id, episode_number, title, description, duration, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, now(), now())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> allocateIds(String table, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            List<Long> blockEnds = jdbcTemplate.queryForList(
+                    "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                    Long.class, table, blocks);
+            for (Long blockEnd : blockEnds) {
+                for (long id = Math.max(1, blockEnd - ID_ALLOCATION_SIZE + 1); id <= blockEnd && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    public void insertMovies(List<Movie> movies) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO movies (id, title, description, year, duration, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, now(), now())",
+                movies, BATCH_SIZE, (ps, movie) -> {
+                    ps.setLong(1, movie.getId());
+                    ps.setString(2, movie.getTitle());
+                    ps.setString(3, movie.getDescription());
+                    ps.setObject(4, movie.getYear(), Types.INTEGER);
+                    ps.setObject(5, movie.getDuration(), Types.INTEGER);
+                });
+    }
+
+    public void insertSeries(List<Series> series) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO series (id, title, description, year, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, now(), now())",
+                series, BATCH_SIZE, (ps, s) -> {
+                    ps.setLong(1, s.getId());
+                    ps.setString(2, s.getTitle());
+                    ps.setString(3, s.getDescription());
+                    ps.setObject(4, s.getYear(), Types.INTEGER);
+                });
+    }
+
+    public void insertSeasons(List<Season> seasons) {
+        jdbcTemplate.batchUpdate(INSERT_SEASON, seasons, BATCH_SIZE, CatalogBatchRepository::setSeason);
+    }
+
+    public boolean[] insertSeasonsSkippingDuplicates(List<Season> seasons) {
+        return inserted(jdbcTemplate.batchUpdate(INSERT_SEASON + " ON CONFLICT ON CONSTRAINT unique_series_season DO NOTHING",
+                seasons, BATCH_SIZE, CatalogBatchRepository::setSeason), seasons.size());
+    }
+
+    public void insertEpisodes(List<Episode> episodes) {
+        jdbcTemplate.batchUpdate(INSERT_EPISODE, episodes, BATCH_SIZE, CatalogBatchRepository::setEpisode);
+    }
+
+    public boolean[] insertEpisodesSkippingDuplicates(List<Episode> episodes) {
+        return inserted(jdbcTemplate.batchUpdate(INSERT_EPISODE + " ON CONFLICT ON CONSTRAINT unique_season_episode DO NOTHING",
+                episodes, BATCH_SIZE, CatalogBatchRepository::setEpisode), episodes.size());
+    }
+
+    private static void setSeason(PreparedStatement ps, Season season) throws SQLException {
+        ps.setLong(1, season.getId());
+        ps.setLong(2, season.getSeriesId());
+        ps.setInt(3, season.getSeasonNumber());
+        ps.setString(4, season.getTitle());
+        ps.setString(5, season.getDescription());
+    }
+
+    private static void setEpisode(PreparedStatement ps, Episode episode) throws SQLException {
+        ps.setLong(1, episode.getId());
+        ps.setLong(2, episode.getSeasonId());
+        ps.setInt(3, episode.getEpisodeNumber());
+        ps.setString(4, episode.getTitle());
+        ps.setString(5, episode.getDescription());
+        ps.setObject(6, episode.getDuration(), Types.INTEGER);
+    }
+
+    private static boolean[] inserted(int[][] updateCounts, int size) {
+        boolean[] inserted = new boolean[size];
+        int row = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                inserted[row++] = count != 0;
+            }
+        }
+        return inserted;
+    }
+}
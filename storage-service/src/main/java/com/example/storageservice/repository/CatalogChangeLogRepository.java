@@ -0,0 +1,71 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.CatalogChangeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogChangeLogRepository {
+
+    private static final long APPEND_LOCK_KEY = 0x63617463686e67L;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void append(List<CatalogChange> changes) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", APPEND_LOCK_KEY);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO catalog_changes (entity_type, entity_id, operation, series_id, season_id) VALUES (?, ?, ?, ?, ?)",
+                changes, BATCH_SIZE, (ps, change) -> {
+                    ps.setString(1, change.getEntityType().name());
+                    ps.setLong(2, change.getEntityId());
+                    ps.setString(3, change.getOperation().name());
+                    ps.setObject(4, change.getSeriesId(), Types.BIGINT);
+                    ps.setObject(5, change.getSeasonId(), Types.BIGINT);
+                });
+    }
+
+    public List<CatalogChangeDto> findSince(long since, int limit) {
+        return jdbcTemplate.query(
+                "SELECT version, entity_type, entity_id, operation, series_id, season_id, changed_at FROM catalog_changes " +
+                        "WHERE version > ? ORDER BY version LIMIT ?",
+                (rs, rowNum) -> CatalogChangeDto.builder()
+                        .version(rs.getLong("version"))
+                        .entityType(EntityType.valueOf(rs.getString("entity_type")))
+                        .entityId(rs.getLong("entity_id"))
+                        .operation(Operation.valueOf(rs.getString("operation")))
+                        .seriesId(rs.getObject("series_id", Long.class))
+                        .seasonId(rs.getObject("season_id", Long.class))
+                        .changedAt(rs.getTimestamp("changed_at").toLocalDateTime())
+                        .build(),
+                since, limit);
+    }
+
+    public long findOldestVersion() {
+        Long oldest = jdbcTemplate.queryForObject("SELECT min(version) FROM catalog_changes", Long.class);
+        return oldest != null ? oldest : 0;
+    }
+
+    public long findLatestVersion() {
+        Long latest = jdbcTemplate.queryForObject("SELECT max(version) FROM catalog_changes", Long.class);
+        return latest != null ? latest : 0;
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update(
+                "DELETE FROM catalog_changes WHERE changed_at < ? AND version < (SELECT max(version) FROM catalog_changes)",
+                Timestamp.valueOf(cutoff));
+    }
+}
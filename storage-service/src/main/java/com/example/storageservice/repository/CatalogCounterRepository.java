@@ -0,0 +1,73 @@
+package com.example.storageservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findSeriesChunkEnd(long afterId, int chunkSize) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM (SELECT id FROM series WHERE id > ? ORDER BY id LIMIT ?) c",
+                Long.class, afterId, chunkSize));
+    }
+
+    public void lockCounterSources(long afterId, long lastId, Duration lockTimeout) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeout.toMillis());
+        jdbcTemplate.queryForList("SELECT id FROM seasons WHERE series_id > ? AND series_id <= ? ORDER BY id FOR UPDATE",
+                Long.class, afterId, lastId);
+        jdbcTemplate.queryForList("SELECT id FROM series WHERE id > ? AND id <= ? ORDER BY id FOR UPDATE",
+                Long.class, afterId, lastId);
+    }
+
+    public List<RepairedRow> repairSeasonCounters(long afterId, long lastId) {
+        return jdbcTemplate.query("""
+                        UPDATE seasons s
+                        SET episode_count  = c.episode_count,
+                            total_duration = c.total_duration
+                        FROM (SELECT sn.id, count(e.id) AS episode_count, coalesce(sum(e.duration), 0) AS total_duration
+                              FROM seasons sn
+                              LEFT JOIN episodes e ON e.season_id = sn.id
+                              WHERE sn.series_id > ? AND sn.series_id <= ?
+                              GROUP BY sn.id) c
+                        WHERE c.id = s.id
+                          AND (s.episode_count <> c.episode_count OR s.total_duration <> c.total_duration)
+                        RETURNING s.id, s.series_id, s.title
+                        """,
+                (rs, rowNum) -> new RepairedRow(rs.getLong("id"), rs.getLong("series_id"), rs.getString("title")),
+                afterId, lastId);
+    }
+
+    public List<RepairedRow> repairSeriesCounters(long afterId, long lastId) {
+        return jdbcTemplate.query("""
+                        UPDATE series sr
+                        SET season_count   = c.season_count,
+                            episode_count  = c.episode_count,
+                            total_duration = c.total_duration
+                        FROM (SELECT se.id, count(sn.id) AS season_count,
+                                     coalesce(sum(sn.episode_count), 0) AS episode_count,
+                                     coalesce(sum(sn.total_duration), 0) AS total_duration
+                              FROM series se
+                              LEFT JOIN seasons sn ON sn.series_id = se.id
+                              WHERE se.id > ? AND se.id <= ?
+                              GROUP BY se.id) c
+                        WHERE c.id = sr.id
+                          AND (sr.season_count <> c.season_count OR sr.episode_count <> c.episode_count
+                            OR sr.total_duration <> c.total_duration)
+                        RETURNING sr.id, sr.id AS series_id, sr.title
+                        """,
+                (rs, rowNum) -> new RepairedRow(rs.getLong("id"), rs.getLong("series_id"), rs.getString("title")),
+                afterId, lastId);
+    }
+
+    public record RepairedRow(long id, long seriesId, String title) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.QMovie;
+import com.example.storageservice.model.QMovieMedia;
+import com.example.storageservice.model.QSeries;
+import com.example.storageservice.model.QSeriesMedia;
+import com.example.storageservice.model.dto.MovieDto;
+import com.example.storageservice.model.dto.SeriesDto;
+import com.example.storageservice.util.FieldSelection;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogProjectionRepository {
+
+    public static final String MEDIA_FILES = "mediaFiles";
+    public static final Set<String> CARD_FIELDS = Set.of("id", "title", "year", "posterId");
+
+    private static final QMovie MOVIE = QMovie.movie;
+    private static final QSeries SERIES = QSeries.series;
+    private static final QMovieMedia MOVIE_POSTER = new QMovieMedia("moviePoster");
+    private static final QSeriesMedia SERIES_POSTER = new QSeriesMedia("seriesPoster");
+
+    private static final Map<String, Expression<?>> MOVIE_COLUMNS = columns(
+            "id", MOVIE.id,
+            "title", MOVIE.title,
+            "description", MOVIE.description,
+            "year", MOVIE.year,
+            "duration", MOVIE.duration,
+            "createdAt", MOVIE.createdAt,
+            "updatedAt", MOVIE.updatedAt,
+            "posterId", JPAExpressions.select(MOVIE_POSTER.mediaFile.id.min())
+                    .from(MOVIE_POSTER)
+                    .where(MOVIE_POSTER.movie.id.eq(MOVIE.id), MOVIE_POSTER.category.eq(MediaCategory.POSTER)));
+
+    private static final Map<String, Expression<?>> SERIES_COLUMNS = columns(
+            "id", SERIES.id,
+            "title", SERIES.title,
+            "description", SERIES.description,
+            "year", SERIES.year,
+            "createdAt", SERIES.createdAt,
+            "updatedAt", SERIES.updatedAt,
+            "totalSeasons", SERIES.seasonCount,
+            "totalEpisodes", SERIES.episodeCount,
+            "totalDuration", SERIES.totalDuration,
+            "posterId", JPAExpressions.select(SERIES_POSTER.mediaFile.id.min())
+                    .from(SERIES_POSTER)
+                    .where(SERIES_POSTER.series.id.eq(SERIES.id), SERIES_POSTER.category.eq(MediaCategory.POSTER)));
+
+    public static final Set<String> MOVIE_FIELDS = fields(MOVIE_COLUMNS);
+    public static final Set<String> SERIES_FIELDS = fields(SERIES_COLUMNS);
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    public Page<MovieDto> findMovies(Predicate predicate, Pageable pageable, FieldSelection fields) {
+        return find(MovieDto.class, MOVIE, MOVIE_COLUMNS, predicate, pageable, fields);
+    }
+
+    public Page<SeriesDto> findSeries(Predicate predicate, Pageable pageable, FieldSelection fields) {
+        return find(SeriesDto.class, SERIES, SERIES_COLUMNS, predicate, pageable, fields);
+    }
+
+    private <T, E> Page<T> find(Class<T> type, EntityPathBase<E> entity, Map<String, Expression<?>> columns,
+                                Predicate predicate, Pageable pageable, FieldSelection fields) {
+        Expression<?>[] selected = columns.entrySet().stream()
+                .filter(column -> fields.includes(column.getKey()))
+                .map(Map.Entry::getValue)
+                .toArray(Expression<?>[]::new);
+
+        JPQLQuery<T> query = queryFactory.select(Projections.bean(type, selected))
+                .from(entity)
+                .where(predicate);
+        List<T> content = new Querydsl(entityManager, new PathBuilder<>(entity.getType(), entity.getMetadata()))
+                .applyPagination(pageable, query)
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryFactory.select(Wildcard.count)
+                .from(entity)
+                .where(predicate)
+                .fetchOne());
+    }
+
+    private static Map<String, Expression<?>> columns(Object... pairs) {
+        Map<String, Expression<?>> columns = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            String name = (String) pairs[i];
+            columns.put(name, ExpressionUtils.as((Expression<?>) pairs[i + 1], name));
+        }
+        return columns;
+    }
+
+    private static Set<String> fields(Map<String, Expression<?>> columns) {
+        Set<String> fields = new HashSet<>(columns.keySet());
+        fields.add(MEDIA_FILES);
+        return Set.copyOf(fields);
+    }
+}
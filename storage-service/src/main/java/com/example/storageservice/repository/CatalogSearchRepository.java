@@ -0,0 +1,95 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.SearchResultDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogSearchRepository {
+
+    private static final String MOVIES = """
+            (SELECT 'MOVIE' AS entity_type, m.id, m.title, m.description, m.year,
+                    NULL::bigint AS series_id, NULL::bigint AS season_id,
+                    NULL::integer AS season_number, NULL::integer AS episode_number,
+                    ts_rank_cd(m.search_vector, websearch_to_tsquery('english', :query))
+                        + word_similarity(:term, lower(m.title)) AS score
+             FROM movies m
+             WHERE m.search_vector @@ websearch_to_tsquery('english', :query)
+                OR :term <% lower(m.title)
+             ORDER BY score DESC
+             LIMIT :limit)
+            """;
+
+    private static final String SERIES = """
+            (SELECT 'SERIES' AS entity_type, s.id, s.title, s.description, s.year,
+                    s.id AS series_id, NULL::bigint AS season_id,
+                    NULL::integer AS season_number, NULL::integer AS episode_number,
+                    ts_rank_cd(s.search_vector, websearch_to_tsquery('english', :query))
+                        + word_similarity(:term, lower(s.title)) AS score
+             FROM series s
+             WHERE s.search_vector @@ websearch_to_tsquery('english', :query)
+                OR :term <% lower(s.title)
+             ORDER BY score DESC
+             LIMIT :limit)
+            """;
+
+    private static final String EPISODES = """
+            (SELECT 'EPISODE' AS entity_type, e.id, e.title, e.description, NULL::integer AS year,
+                    sn.series_id, sn.id AS season_id,
+                    sn.season_number, e.episode_number,
+                    ts_rank_cd(e.search_vector, websearch_to_tsquery('english', :query))
+                        + word_similarity(:term, lower(e.title)) AS score
+             FROM episodes e
+             JOIN seasons sn ON sn.id = e.season_id
+             WHERE e.search_vector @@ websearch_to_tsquery('english', :query)
+                OR :term <% lower(e.title)
+             ORDER BY score DESC
+             LIMIT :limit)
+            """;
+
+    private static final Map<EntityType, String> BRANCHES = Map.of(
+            EntityType.MOVIE, MOVIES,
+            EntityType.SERIES, SERIES,
+            EntityType.EPISODE, EPISODES);
+
+    private static final RowMapper<SearchResultDto> ROW_MAPPER = (rs, rowNum) -> SearchResultDto.builder()
+            .type(EntityType.valueOf(rs.getString("entity_type")))
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .year(rs.getObject("year", Integer.class))
+            .seriesId(rs.getObject("series_id", Long.class))
+            .seasonId(rs.getObject("season_id", Long.class))
+            .seasonNumber(rs.getObject("season_number", Integer.class))
+            .episodeNumber(rs.getObject("episode_number", Integer.class))
+            .score(rs.getDouble("score"))
+            .build();
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<SearchResultDto> search(String query, Set<EntityType> types, int limit) {
+        String union = types.stream()
+                .sorted()
+                .map(BRANCHES::get)
+                .collect(Collectors.joining(" UNION ALL "));
+
+        String sql = "SELECT * FROM (" + union + ") results ORDER BY score DESC, entity_type, id LIMIT :limit";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("term", query.toLowerCase())
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+}
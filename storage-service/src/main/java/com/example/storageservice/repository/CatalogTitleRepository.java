@@ -0,0 +1,42 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.config.SuggestProperties;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.util.TitlePrefixIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogTitleRepository {
+
+    private static final String TITLES_SQL = """
+            SELECT 'MOVIE' AS entity_type, m.id, m.title, 0 AS series_id, 0 AS season_id FROM movies m
+            UNION ALL
+            SELECT 'SERIES', s.id, s.title, s.id, 0 FROM series s
+            UNION ALL
+            SELECT 'EPISODE', e.id, e.title, sn.series_id, sn.id
+            FROM episodes e
+            JOIN seasons sn ON sn.id = e.season_id
+            WHERE e.title IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SuggestProperties suggestProperties;
+
+    @Transactional(readOnly = true)
+    public void loadTitles(TitlePrefixIndex.Builder builder) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(TITLES_SQL);
+            ps.setFetchSize(suggestProperties.getScanFetchSize());
+            return ps;
+        }, rs -> {
+            builder.add(EntityType.valueOf(rs.getString("entity_type")), rs.getLong("id"), rs.getString("title"),
+                    rs.getLong("series_id"), rs.getLong("season_id"));
+        });
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.config.CatalogTransferProperties;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.UploadStatus;
+import com.example.storageservice.model.dto.CatalogRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogTransferRepository {
+
+    private static final List<String> SEQUENCE_TABLES = List.of(
+            "media_files", "movies", "series", "seasons", "episodes",
+            "movies_media", "series_media", "seasons_media", "episodes_media");
+
+    private static final String MEDIA_LINKS_SQL = """
+            SELECT 'MOVIE' AS owner_type, id, movie_id AS owner_id, media_file_id, category, is_primary FROM movies_media
+            UNION ALL
+            SELECT 'SERIES', id, series_id, media_file_id, category, is_primary FROM series_media
+            UNION ALL
+            SELECT 'SEASON', id, season_id, media_file_id, category, is_primary FROM seasons_media
+            UNION ALL
+            SELECT 'EPISODE', id, episode_id, media_file_id, category, is_primary FROM episodes_media
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogTransferProperties catalogTransferProperties;
+
+    public void scanMediaFiles(Consumer<CatalogRecord.MediaFile> consumer) {
+        scan("SELECT id, original_filename, content_type, file_size, minio_bucket, minio_object_key, upload_status, " +
+                "created_at, updated_at FROM media_files ORDER BY id", (rs, rowNum) -> CatalogRecord.MediaFile.builder()
+                .id(rs.getLong("id"))
+                .originalFilename(rs.getString("original_filename"))
+                .contentType(rs.getString("content_type"))
+                .fileSize(rs.getObject("file_size", Long.class))
+                .bucket(rs.getString("minio_bucket"))
+                .objectKey(rs.getString("minio_object_key"))
+                .uploadStatus(UploadStatus.valueOf(rs.getString("upload_status")))
+                .createdAt(timestamp(rs, "created_at"))
+                .updatedAt(timestamp(rs, "updated_at"))
+                .build(), consumer);
+    }
+
+    public void scanMovies(Consumer<CatalogRecord.Movie> consumer) {
+        scan("SELECT id, title, description, year, duration, created_at, updated_at FROM movies ORDER BY id",
+                (rs, rowNum) -> CatalogRecord.Movie.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .year(rs.getObject("year", Integer.class))
+                        .duration(rs.getObject("duration", Integer.class))
+                        .createdAt(timestamp(rs, "created_at"))
+                        .updatedAt(timestamp(rs, "updated_at"))
+                        .build(), consumer);
+    }
+
+    public void scanSeries(Consumer<CatalogRecord.Series> consumer) {
+        scan("SELECT id, title, description, year, created_at, updated_at FROM series ORDER BY id",
+                (rs, rowNum) -> CatalogRecord.Series.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .year(rs.getObject("year", Integer.class))
+                        .createdAt(timestamp(rs, "created_at"))
+                        .updatedAt(timestamp(rs, "updated_at"))
+                        .build(), consumer);
+    }
+
+    public void scanSeasons(Consumer<CatalogRecord.Season> consumer) {
+        scan("SELECT id, series_id, season_number, title, description, created_at, updated_at FROM seasons ORDER BY id",
+                (rs, rowNum) -> CatalogRecord.Season.builder()
+                        .id(rs.getLong("id"))
+                        .seriesId(rs.getLong("series_id"))
+                        .seasonNumber(rs.getInt("season_number"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .createdAt(timestamp(rs, "created_at"))
+                        .updatedAt(timestamp(rs, "updated_at"))
+                        .build(), consumer);
+    }
+
+    public void scanEpisodes(Consumer<CatalogRecord.Episode> consumer) {
+        scan("SELECT e.id, e.season_id, s.series_id, e.episode_number, e.title, e.description, e.duration, " +
+                        "e.created_at, e.updated_at FROM episodes e JOIN seasons s ON s.id = e.season_id ORDER BY e.id",
+                (rs, rowNum) -> CatalogRecord.Episode.builder()
+                        .id(rs.getLong("id"))
+                        .seasonId(rs.getLong("season_id"))
+                        .seriesId(rs.getLong("series_id"))
+                        .episodeNumber(rs.getInt("episode_number"))
+                        .title(rs.getString("title"))
+                        .description(rs.getString("description"))
+                        .duration(rs.getObject("duration", Integer.class))
+                        .createdAt(timestamp(rs, "created_at"))
+                        .updatedAt(timestamp(rs, "updated_at"))
+                        .build(), consumer);
+    }
+
+    public void scanMediaLinks(Consumer<CatalogRecord.MediaLink> consumer) {
+        scan(MEDIA_LINKS_SQL, (rs, rowNum) -> CatalogRecord.MediaLink.builder()
+                .ownerType(EntityType.valueOf(rs.getString("owner_type")))
+                .id(rs.getLong("id"))
+                .ownerId(rs.getLong("owner_id"))
+                .mediaFileId(rs.getLong("media_file_id"))
+                .category(MediaCategory.valueOf(rs.getString("category")))
+                .primary(rs.getBoolean("is_primary"))
+                .build(), consumer);
+    }
+
+    public void upsertMediaFiles(List<CatalogRecord.MediaFile> files) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO media_files (id, original_filename, content_type, file_size, minio_bucket, minio_object_key, " +
+                        "upload_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, COALESCE(?, now()), COALESCE(?, now())) " +
+                        "ON CONFLICT (id) DO UPDATE SET original_filename = EXCLUDED.original_filename, " +
+                        "content_type = EXCLUDED.content_type, file_size = EXCLUDED.file_size, minio_bucket = EXCLUDED.minio_bucket, " +
+                        "minio_object_key = EXCLUDED.minio_object_key, upload_status = EXCLUDED.upload_status, " +
+                        "updated_at = EXCLUDED.updated_at",
+                files.stream().map(f -> new Object[]{f.getId(), f.getOriginalFilename(), f.getContentType(), f.getFileSize(),
+                        f.getBucket(), f.getObjectKey(), f.getUploadStatus().name(),
+                        timestamp(f.getCreatedAt()), timestamp(f.getUpdatedAt())}).toList());
+    }
+
+    public void upsertMovies(List<CatalogRecord.Movie> movies) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO movies (id, title, description, year, duration, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, COALESCE(?, now()), COALESCE(?, now())) " +
+                        "ON CONFLICT (id) DO UPDATE SET title = EXCLUDED.title, description = EXCLUDED.description, " +
+                        "year = EXCLUDED.year, duration = EXCLUDED.duration, updated_at = EXCLUDED.updated_at",
+                movies.stream().map(m -> new Object[]{m.getId(), m.getTitle(), m.getDescription(), m.getYear(), m.getDuration(),
+                        timestamp(m.getCreatedAt()), timestamp(m.getUpdatedAt())}).toList());
+    }
+
+    public void upsertSeries(List<CatalogRecord.Series> series) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO series (id, title, description, year, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, COALESCE(?, now()), COALESCE(?, now())) " +
+                        "ON CONFLICT (id) DO UPDATE SET title = EXCLUDED.title, description = EXCLUDED.description, " +
+                        "year = EXCLUDED.year, updated_at = EXCLUDED.updated_at",
+                series.stream().map(s -> new Object[]{s.getId(), s.getTitle(), s.getDescription(), s.getYear(),
+                        timestamp(s.getCreatedAt()), timestamp(s.getUpdatedAt())}).toList());
+    }
+
+    public boolean[] upsertSeasons(List<CatalogRecord.Season> seasons) {
+        return applied(jdbcTemplate.batchUpdate(
+                "INSERT INTO seasons (id, series_id, season_number, title, description, created_at, updated_at) " +
+                        "SELECT v.* FROM (VALUES (?::bigint, ?::bigint, ?::int, ?, ?, COALESCE(?::timestamp, now()), " +
+                        "COALESCE(?::timestamp, now()))) AS v(id, series_id, season_number, title, description, created_at, updated_at) " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM seasons o WHERE o.series_id = v.series_id " +
+                        "AND o.season_number = v.season_number AND o.id <> v.id) " +
+                        "ON CONFLICT (id) DO UPDATE SET series_id = EXCLUDED.series_id, season_number = EXCLUDED.season_number, " +
+                        "title = EXCLUDED.title, description = EXCLUDED.description, updated_at = EXCLUDED.updated_at",
+                seasons.stream().map(s -> new Object[]{s.getId(), s.getSeriesId(), s.getSeasonNumber(), s.getTitle(),
+                        s.getDescription(), timestamp(s.getCreatedAt()), timestamp(s.getUpdatedAt())}).toList()));
+    }
+
+    public boolean[] upsertEpisodes(List<CatalogRecord.Episode> episodes) {
+        return applied(jdbcTemplate.batchUpdate(
+                "INSERT INTO episodes (id, season_id, episode_number, title, description, duration, created_at, updated_at) " +
+                        "SELECT v.* FROM (VALUES (?::bigint, ?::bigint, ?::int, ?, ?, ?::int, COALESCE(?::timestamp, now()), " +
+                        "COALESCE(?::timestamp, now()))) AS v(id, season_id, episode_number, title, description, duration, " +
+                        "created_at, updated_at) " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM episodes o WHERE o.season_id = v.season_id " +
+                        "AND o.episode_number = v.episode_number AND o.id <> v.id) " +
+                        "ON CONFLICT (id) DO UPDATE SET season_id = EXCLUDED.season_id, episode_number = EXCLUDED.episode_number, " +
+                        "title = EXCLUDED.title, description = EXCLUDED.description, duration = EXCLUDED.duration, " +
+                        "updated_at = EXCLUDED.updated_at",
+                episodes.stream().map(e -> new Object[]{e.getId(), e.getSeasonId(), e.getEpisodeNumber(), e.getTitle(),
+                        e.getDescription(), e.getDuration(), timestamp(e.getCreatedAt()), timestamp(e.getUpdatedAt())}).toList()));
+    }
+
+    public void upsertMediaLinks(List<CatalogRecord.MediaLink> links) {
+        Map<EntityType, List<CatalogRecord.MediaLink>> byOwner = links.stream()
+                .collect(Collectors.groupingBy(CatalogRecord.MediaLink::getOwnerType));
+        byOwner.forEach((ownerType, ownerLinks) -> {
+            String table = linkTable(ownerType);
+            String ownerColumn = linkOwnerColumn(ownerType);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO " + table + " (id, " + ownerColumn + ", media_file_id, category, is_primary) " +
+                            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET " + ownerColumn + " = EXCLUDED." + ownerColumn + ", " +
+                            "media_file_id = EXCLUDED.media_file_id, category = EXCLUDED.category, is_primary = EXCLUDED.is_primary",
+                    ownerLinks.stream().map(l -> new Object[]{l.getId(), l.getOwnerId(), l.getMediaFileId(),
+                            l.getCategory().name(), l.isPrimary()}).toList());
+        });
+    }
+
+    public void advanceSequences() {
+        for (String table : SEQUENCE_TABLES) {
+            jdbcTemplate.queryForList("SELECT setval(pg_get_serial_sequence(?, 'id'), GREATEST(" +
+                    "(SELECT COALESCE(max(id), 0) FROM " + table + "), nextval(pg_get_serial_sequence(?, 'id'))))", table, table);
+        }
+    }
+
+    private <T> void scan(String sql, RowMapper<T> mapper, Consumer<T> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(catalogTransferProperties.getFetchSize());
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapper.mapRow(rs, rs.getRow())));
+    }
+
+    private String linkTable(EntityType ownerType) {
+        return switch (ownerType) {
+            case MOVIE -> "movies_media";
+            case SERIES -> "series_media";
+            case SEASON -> "seasons_media";
+            case EPISODE -> "episodes_media";
+        };
+    }
+
+    private String linkOwnerColumn(EntityType ownerType) {
+        return switch (ownerType) {
+            case MOVIE -> "movie_id";
+            case SERIES -> "series_id";
+            case SEASON -> "season_id";
+            case EPISODE -> "episode_id";
+        };
+    }
+
+    private static boolean[] applied(int[] updateCounts) {
+        boolean[] applied = new boolean[updateCounts.length];
+        for (int i = 0; i < updateCounts.length; i++) {
+            applied[i] = updateCounts[i] != 0;
+        }
+        return applied;
+    }
+
+    private static LocalDateTime timestamp(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
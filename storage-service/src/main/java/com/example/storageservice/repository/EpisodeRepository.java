@@ -3,11 +3,13 @@ package com.example.storageservice.repository;
 import com.example.storageservice.model.Episode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,21 +18,25 @@ public interface EpisodeRepository extends JpaRepository<Episode, Long> {
 
     List<Episode> findBySeasonIdOrderByEpisodeNumber(Long seasonId);
 
+    List<Episode> findBySeasonIdInOrderByEpisodeNumber(Collection<Long> seasonIds);
+
+    Page<Episode> findBySeasonId(Long seasonId, Pageable pageable);
+
+    Slice<Episode> findBySeasonIdAndEpisodeNumberGreaterThan(Long seasonId, Integer episodeNumber, Pageable pageable);
+
+    @Query("SELECT e.seasonId FROM Episode e WHERE e.id = :id")
+    Optional<Long> findSeasonIdById(@Param("id") Long id);
+
     @Query("SELECT e FROM Episode e WHERE e.seasonId = :seasonId AND e.episodeNumber = :episodeNumber")
     Optional<Episode> findBySeasonIdAndEpisodeNumber(@Param("seasonId") Long seasonId,
                                                      @Param("episodeNumber") Integer episodeNumber);
 
     boolean existsBySeasonIdAndEpisodeNumber(Long seasonId, Integer episodeNumber);
 
-    @Query("SELECT e FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId")
+    @Query("SELECT e FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId ORDER BY s.seasonNumber, e.episodeNumber")
     List<Episode> findBySeriesId(@Param("seriesId") Long seriesId);
 
-    @Query("SELECT e FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId")
+    @Query(value = "SELECT e FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId ORDER BY s.seasonNumber, e.episodeNumber",
+            countQuery = "SELECT COUNT(e) FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId")
     Page<Episode> findBySeriesId(@Param("seriesId") Long seriesId, Pageable pageable);
-
-    @Query("SELECT COUNT(e) FROM Episode e JOIN e.season s WHERE s.seriesId = :seriesId")
-    Integer countBySeriesId(@Param("seriesId") Long seriesId);
-
-    @Query("SELECT COUNT(e) FROM Episode e WHERE e.seasonId = :seasonId")
-    Integer countBySeasonId(@Param("seasonId") Long seasonId);
 }
@@ -2,9 +2,15 @@ package com.example.storageservice.repository;
 
 import com.example.storageservice.model.EpisodeMedia;
 import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.MediaFile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,22 @@ import java.util.Optional;
 public interface EpisodesMediaRepository extends JpaRepository<EpisodeMedia, Long> {
     List<EpisodeMedia> findByEpisodeId(Long episodeId);
 
-    Optional<EpisodeMedia> findByEpisodeIdAndCategory(Long episodeId, MediaCategory category);
+    @Query("SELECT f FROM EpisodeMedia em JOIN em.mediaFile f WHERE em.episode.id = :episodeId AND em.category = :category " +
+            "ORDER BY CASE WHEN em.isPrimary = true THEN 0 ELSE 1 END, em.id")
+    Optional<MediaFile> findPreferredMediaFile(@Param("episodeId") Long episodeId, @Param("category") MediaCategory category, Limit limit);
 
-    Optional<EpisodeMedia> findByEpisodeIdAndCategoryAndIsPrimaryTrue(Long episodeId, MediaCategory category);
+    @Query("SELECT em.episode.id AS ownerId, f.id AS id, f.originalFilename AS originalFilename, f.contentType AS contentType, " +
+            "f.fileSize AS fileSize, em.category AS category, em.isPrimary AS isPrimary, f.uploadStatus AS uploadStatus, " +
+            "f.createdAt AS createdAt FROM EpisodeMedia em JOIN em.mediaFile f WHERE em.episode.id IN :episodeIds ORDER BY em.id")
+    List<MediaLinkRow> findMediaByEpisodeIds(@Param("episodeIds") Collection<Long> episodeIds);
+
+    @Query("SELECT em.episode.id AS ownerId, f.id AS id, f.originalFilename AS originalFilename, f.contentType AS contentType, " +
+            "f.fileSize AS fileSize, em.category AS category, em.isPrimary AS isPrimary, f.uploadStatus AS uploadStatus, " +
+            "f.createdAt AS createdAt FROM EpisodeMedia em JOIN em.mediaFile f JOIN em.episode e JOIN e.season s " +
+            "WHERE s.seriesId = :seriesId AND em.isPrimary = true ORDER BY em.id")
+    List<MediaLinkRow> findPrimaryMediaBySeriesId(@Param("seriesId") Long seriesId);
+
+    @Modifying
+    @Query("DELETE FROM EpisodeMedia em WHERE em.mediaFile.id IN :mediaFileIds")
+    int deleteByMediaFileIds(@Param("mediaFileIds") Collection<Long> mediaFileIds);
 }
@@ -3,11 +3,13 @@ package com.example.storageservice.repository;
 import com.example.storageservice.model.MediaFile;
 import com.example.storageservice.model.UploadStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,86 @@ public interface MediaFileRepository extends JpaRepository<MediaFile, Long> {
     @Query("SELECT m FROM MediaFile m WHERE m.minioBucket = :bucket AND m.minioObjectKey = :key")
     Optional<MediaFile> findByMinioLocation(@Param("bucket") String bucket, @Param("key") String key);
 
-    @Query("SELECT m FROM MediaFile m WHERE m.uploadStatus IN :statuses AND m.presignedExpiresAt < :now")
-    List<MediaFile> findExpiredPresignedUrls(@Param("statuses") List<UploadStatus> statuses, @Param("now") LocalDateTime now);
+    Optional<MediaFile> findByUploadSessionId(String uploadSessionId);
+
+    @Query(value = "SELECT id AS \"id\", minio_bucket AS \"bucket\", minio_object_key AS \"objectKey\" FROM media_files " +
+            "WHERE upload_status IN (:statuses) AND presigned_expires_at < :now LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ExpiredUploadRow> lockExpiredUploads(@Param("statuses") Collection<String> statuses, @Param("now") LocalDateTime now,
+                                              @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE MediaFile m SET m.uploadStatus = com.example.storageservice.model.UploadStatus.FAILED, m.presignedUrl = NULL, " +
+            "m.presignedExpiresAt = NULL, m.updatedAt = CURRENT_TIMESTAMP WHERE m.id IN :ids")
+    int expireUploads(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT id AS \"id\", minio_object_key AS \"objectKey\", file_size AS \"fileSize\", upload_status AS \"uploadStatus\", " +
+            "updated_at AS \"updatedAt\" FROM media_files WHERE minio_bucket = :bucket AND minio_object_key COLLATE \"C\" > :afterKey " +
+            "ORDER BY minio_object_key COLLATE \"C\" LIMIT :limit", nativeQuery = true)
+    List<ObjectRow> findObjectPage(@Param("bucket") String bucket, @Param("afterKey") String afterKey, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE MediaFile m SET m.uploadStatus = :status, m.updatedAt = CURRENT_TIMESTAMP WHERE m.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") UploadStatus status);
+
+    @Modifying
+    @Query("UPDATE MediaFile m SET m.uploadStatus = com.example.storageservice.model.UploadStatus.FAILED, " +
+            "m.updatedAt = CURRENT_TIMESTAMP WHERE m.id IN :ids " +
+            "AND m.uploadStatus = com.example.storageservice.model.UploadStatus.COMPLETED AND m.updatedAt < :updatedBefore")
+    int failMissingObjects(@Param("ids") Collection<Long> ids, @Param("updatedBefore") LocalDateTime updatedBefore);
+
+    @Modifying
+    @Query("UPDATE MediaFile m SET m.uploadStatus = :status, m.fileSize = :fileSize, m.presignedUrl = NULL, " +
+            "m.presignedExpiresAt = NULL, m.updatedAt = CURRENT_TIMESTAMP WHERE m.id = :id")
+    int updateStatusAndSize(@Param("id") Long id, @Param("status") UploadStatus status, @Param("fileSize") Long fileSize);
+
+    @Modifying
+    @Query("UPDATE MediaFile m SET m.uploadStatus = com.example.storageservice.model.UploadStatus.COMPLETED, " +
+            "m.fileSize = COALESCE(:fileSize, m.fileSize), m.presignedUrl = NULL, m.presignedExpiresAt = NULL, " +
+            "m.updatedAt = CURRENT_TIMESTAMP WHERE m.id = :id AND m.uploadStatus IN (" +
+            "com.example.storageservice.model.UploadStatus.PENDING, com.example.storageservice.model.UploadStatus.UPLOADING)")
+    int completeUpload(@Param("id") Long id, @Param("fileSize") Long fileSize);
+
+    @Query(value = "SELECT m.id AS \"mediaFileId\", m.upload_session_id AS \"uploadSessionId\", m.upload_status AS \"uploadStatus\", " +
+            "m.file_size AS \"fileSize\", o.entity_type AS \"entityType\", o.entity_id AS \"entityId\" " +
+            "FROM media_files m LEFT JOIN (" +
+            "SELECT media_file_id, 'MOVIE' AS entity_type, movie_id AS entity_id FROM movies_media WHERE media_file_id IN (:ids) " +
+            "UNION ALL SELECT media_file_id, 'SERIES', series_id FROM series_media WHERE media_file_id IN (:ids) " +
+            "UNION ALL SELECT media_file_id, 'SEASON', season_id FROM seasons_media WHERE media_file_id IN (:ids) " +
+            "UNION ALL SELECT media_file_id, 'EPISODE', episode_id FROM episodes_media WHERE media_file_id IN (:ids)" +
+            ") o ON o.media_file_id = m.id WHERE m.id IN (:ids)", nativeQuery = true)
+    List<StatusRow> findStatusRows(@Param("ids") Collection<Long> ids);
+
+    interface ExpiredUploadRow {
+        Long getId();
+
+        String getBucket();
+
+        String getObjectKey();
+    }
+
+    interface ObjectRow {
+        Long getId();
+
+        String getObjectKey();
+
+        Long getFileSize();
+
+        String getUploadStatus();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface StatusRow {
+        Long getMediaFileId();
+
+        String getUploadSessionId();
+
+        String getUploadStatus();
+
+        Long getFileSize();
+
+        String getEntityType();
+
+        Long getEntityId();
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.UploadStatus;
+
+import java.time.LocalDateTime;
+
+public interface MediaLinkRow {
+    Long getOwnerId();
+
+    Long getId();
+
+    String getOriginalFilename();
+
+    String getContentType();
+
+    Long getFileSize();
+
+    MediaCategory getCategory();
+
+    boolean getIsPrimary();
+
+    UploadStatus getUploadStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,10 +1,16 @@
 package com.example.storageservice.repository;
 
 import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.MediaFile;
 import com.example.storageservice.model.MovieMedia;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,16 @@ import java.util.Optional;
 public interface MoviesMediaRepository extends JpaRepository<MovieMedia, Long> {
     List<MovieMedia> findByMovieId(Long movieId);
 
-    Optional<MovieMedia> findByMovieIdAndCategory(Long movieId, MediaCategory category);
+    @Query("SELECT f FROM MovieMedia mm JOIN mm.mediaFile f WHERE mm.movie.id = :movieId AND mm.category = :category " +
+            "ORDER BY CASE WHEN mm.isPrimary = true THEN 0 ELSE 1 END, mm.id")
+    Optional<MediaFile> findPreferredMediaFile(@Param("movieId") Long movieId, @Param("category") MediaCategory category, Limit limit);
 
-    Optional<MovieMedia> findByMovieIdAndCategoryAndIsPrimaryTrue(Long movieId, MediaCategory category);
+    @Query("SELECT mm.movie.id AS ownerId, f.id AS id, f.originalFilename AS originalFilename, f.contentType AS contentType, " +
+            "f.fileSize AS fileSize, mm.category AS category, mm.isPrimary AS isPrimary, f.uploadStatus AS uploadStatus, " +
+            "f.createdAt AS createdAt FROM MovieMedia mm JOIN mm.mediaFile f WHERE mm.movie.id IN :movieIds ORDER BY mm.id")
+    List<MediaLinkRow> findMediaByMovieIds(@Param("movieIds") Collection<Long> movieIds);
+
+    @Modifying
+    @Query("DELETE FROM MovieMedia mm WHERE mm.mediaFile.id IN :mediaFileIds")
+    int deleteByMediaFileIds(@Param("mediaFileIds") Collection<Long> mediaFileIds);
 }
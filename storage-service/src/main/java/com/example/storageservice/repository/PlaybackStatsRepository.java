@@ -0,0 +1,58 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Repository
+@RequiredArgsConstructor
+public class PlaybackStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void addStats(List<StatsDelta> deltas, LocalDateTime playedAt) {
+        Timestamp timestamp = Timestamp.valueOf(playedAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO playback_stats (entity_type, entity_id, play_count, bytes_served, last_played_at) " +
+                        "VALUES (?, ?, ?, ?, ?) ON CONFLICT (entity_type, entity_id) DO UPDATE SET " +
+                        "play_count = playback_stats.play_count + EXCLUDED.play_count, " +
+                        "bytes_served = playback_stats.bytes_served + EXCLUDED.bytes_served, " +
+                        "last_played_at = CASE WHEN EXCLUDED.play_count > 0 THEN EXCLUDED.last_played_at " +
+                        "ELSE playback_stats.last_played_at END",
+                deltas.stream().map(delta -> new Object[]{delta.type().name(), delta.id(), delta.plays(), delta.bytes(),
+                        delta.plays() > 0 ? timestamp : null}).toList());
+    }
+
+    public void addMoviePlays(List<StatsDelta> deltas) {
+        jdbcTemplate.batchUpdate("UPDATE movies SET play_count = play_count + ? WHERE id = ?",
+                deltas.stream().map(delta -> new Object[]{delta.plays(), delta.id()}).toList());
+    }
+
+    public Map<Long, Long> findSeriesIdsByEpisodeIds(Collection<Long> episodeIds) {
+        Map<Long, Long> seriesIds = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT e.id, s.series_id FROM episodes e JOIN seasons s ON s.id = e.season_id " +
+                        "WHERE e.id IN (:episodeIds)", Map.of("episodeIds", episodeIds),
+                (RowCallbackHandler) rs -> seriesIds.put(rs.getLong(1), rs.getLong(2)));
+        return seriesIds;
+    }
+
+    public void addSeriesPlays(SortedMap<Long, Long> playsBySeriesId) {
+        jdbcTemplate.batchUpdate("UPDATE series SET play_count = play_count + ? WHERE id = ?",
+                playsBySeriesId.entrySet().stream().map(entry -> new Object[]{entry.getValue(), entry.getKey()}).toList());
+    }
+
+    public record StatsDelta(EntityType type, Long id, long plays, long bytes) {
+    }
+}
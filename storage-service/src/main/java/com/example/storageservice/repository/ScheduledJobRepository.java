@@ -0,0 +1,48 @@
+package com.example.storageservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<JobState> find(String name, Duration minimumSpacing) {
+        return jdbcTemplate.query(
+                "SELECT last_status, checkpoint, " +
+                        "last_started_at IS NULL OR last_started_at <= now() - make_interval(secs => ?) AS due " +
+                        "FROM scheduled_jobs WHERE name = ?",
+                (rs, rowNum) -> new JobState(rs.getString("last_status"), rs.getString("checkpoint"), rs.getBoolean("due")),
+                minimumSpacing.toMillis() / 1000.0, name).stream().findFirst();
+    }
+
+    public void markStarted(String name, String node) {
+        jdbcTemplate.update(
+                "INSERT INTO scheduled_jobs (name, last_status, last_node, last_started_at, run_count) " +
+                        "VALUES (?, 'RUNNING', ?, now(), 1) " +
+                        "ON CONFLICT (name) DO UPDATE SET last_status = 'RUNNING', last_node = EXCLUDED.last_node, " +
+                        "last_started_at = now(), run_count = scheduled_jobs.run_count + 1",
+                name, node);
+    }
+
+    public void markFinished(String name, String status, String error, boolean clearCheckpoint) {
+        jdbcTemplate.update(
+                "UPDATE scheduled_jobs SET last_status = ?, last_finished_at = now(), last_error = ?, " +
+                        "checkpoint = CASE WHEN ? THEN NULL ELSE checkpoint END, " +
+                        "checkpoint_at = CASE WHEN ? THEN NULL ELSE checkpoint_at END WHERE name = ?",
+                status, error, clearCheckpoint, clearCheckpoint, name);
+    }
+
+    public void saveCheckpoint(String name, String checkpoint) {
+        jdbcTemplate.update("UPDATE scheduled_jobs SET checkpoint = ?, checkpoint_at = now() WHERE name = ?", checkpoint, name);
+    }
+
+    public record JobState(String lastStatus, String checkpoint, boolean due) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.storageservice.repository;
 
 import com.example.storageservice.model.Season;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +17,16 @@ public interface SeasonRepository extends JpaRepository<Season, Long> {
 
     List<Season> findBySeriesIdOrderBySeasonNumber(Long seriesId);
 
+    List<Season> findBySeriesIdInOrderBySeasonNumber(Collection<Long> seriesIds);
+
+    Page<Season> findBySeriesId(Long seriesId, Pageable pageable);
+
     @Query("SELECT s FROM Season s WHERE s.seriesId = :seriesId AND s.seasonNumber = :seasonNumber")
     Optional<Season> findBySeriesIdAndSeasonNumber(@Param("seriesId") Long seriesId,
                                                    @Param("seasonNumber") Integer seasonNumber);
 
     boolean existsBySeriesIdAndSeasonNumber(Long seriesId, Integer seasonNumber);
+
+    @Query("SELECT s.seriesId FROM Season s WHERE s.id = :id")
+    Optional<Long> findSeriesIdById(@Param("id") Long id);
 }
@@ -3,8 +3,12 @@ package com.example.storageservice.repository;
 import com.example.storageservice.model.MediaCategory;
 import com.example.storageservice.model.SeasonMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,13 @@ public interface SeasonsMediaRepository extends JpaRepository<SeasonMedia, Long>
     Optional<SeasonMedia> findBySeasonIdAndCategory(Long seasonId, MediaCategory category);
 
     Optional<SeasonMedia> findBySeasonIdAndCategoryAndIsPrimaryTrue(Long seasonId, MediaCategory category);
+
+    @Query("SELECT sm.season.id AS ownerId, f.id AS id, f.originalFilename AS originalFilename, f.contentType AS contentType, " +
+            "f.fileSize AS fileSize, sm.category AS category, sm.isPrimary AS isPrimary, f.uploadStatus AS uploadStatus, " +
+            "f.createdAt AS createdAt FROM SeasonMedia sm JOIN sm.mediaFile f WHERE sm.season.id IN :seasonIds ORDER BY sm.id")
+    List<MediaLinkRow> findMediaBySeasonIds(@Param("seasonIds") Collection<Long> seasonIds);
+
+    @Modifying
+    @Query("DELETE FROM SeasonMedia sm WHERE sm.mediaFile.id IN :mediaFileIds")
+    int deleteByMediaFileIds(@Param("mediaFileIds") Collection<Long> mediaFileIds);
 }
@@ -1,10 +1,16 @@
 package com.example.storageservice.repository;
 
 import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.MediaFile;
 import com.example.storageservice.model.SeriesMedia;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,16 @@ import java.util.Optional;
 public interface SeriesMediaRepository extends JpaRepository<SeriesMedia, Long> {
     List<SeriesMedia> findBySeriesId(Long seriesId);
 
-    Optional<SeriesMedia> findBySeriesIdAndCategory(Long seriesId, MediaCategory category);
+    @Query("SELECT f FROM SeriesMedia sm JOIN sm.mediaFile f WHERE sm.series.id = :seriesId AND sm.category = :category " +
+            "ORDER BY CASE WHEN sm.isPrimary = true THEN 0 ELSE 1 END, sm.id")
+    Optional<MediaFile> findPreferredMediaFile(@Param("seriesId") Long seriesId, @Param("category") MediaCategory category, Limit limit);
 
-    Optional<SeriesMedia> findBySeriesIdAndCategoryAndIsPrimaryTrue(Long seriesId, MediaCategory category);
+    @Query("SELECT sm.series.id AS ownerId, f.id AS id, f.originalFilename AS originalFilename, f.contentType AS contentType, " +
+            "f.fileSize AS fileSize, sm.category AS category, sm.isPrimary AS isPrimary, f.uploadStatus AS uploadStatus, " +
+            "f.createdAt AS createdAt FROM SeriesMedia sm JOIN sm.mediaFile f WHERE sm.series.id IN :seriesIds ORDER BY sm.id")
+    List<MediaLinkRow> findMediaBySeriesIds(@Param("seriesIds") Collection<Long> seriesIds);
+
+    @Modifying
+    @Query("DELETE FROM SeriesMedia sm WHERE sm.mediaFile.id IN :mediaFileIds")
+    int deleteByMediaFileIds(@Param("mediaFileIds") Collection<Long> mediaFileIds);
 }
@@ -0,0 +1,18 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.StorageOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StorageOutboxRepository extends JpaRepository<StorageOutboxEntry, Long> {
+
+    @Query(value = "SELECT * FROM storage_outbox WHERE next_attempt_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<StorageOutboxEntry> lockDueEntries(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
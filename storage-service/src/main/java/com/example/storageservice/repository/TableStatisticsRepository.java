@@ -0,0 +1,20 @@
+package com.example.storageservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long estimateRowCount(String table) {
+        return jdbcTemplate.queryForList("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table)
+                .stream()
+                .filter(estimate -> estimate != null && estimate >= 0)
+                .findFirst()
+                .orElse(null);
+    }
+}
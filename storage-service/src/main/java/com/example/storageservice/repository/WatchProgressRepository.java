@@ -0,0 +1,49 @@
+package com.example.storageservice.repository;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.WatchProgressDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WatchProgressRepository {
+
+    private static final RowMapper<WatchProgressDto> ROW_MAPPER = (rs, rowNum) -> WatchProgressDto.builder()
+            .userId(rs.getString("user_id"))
+            .contentType(EntityType.valueOf(rs.getString("content_type")))
+            .contentId(rs.getLong("content_id"))
+            .position(rs.getDouble("position_seconds"))
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<WatchProgressDto> entries) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO watch_progress (user_id, content_type, content_id, position_seconds, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?) ON CONFLICT (user_id, content_type, content_id) DO UPDATE SET " +
+                        "position_seconds = EXCLUDED.position_seconds, updated_at = EXCLUDED.updated_at " +
+                        "WHERE watch_progress.updated_at <= EXCLUDED.updated_at",
+                entries.stream().map(entry -> new Object[]{entry.getUserId(), entry.getContentType().name(),
+                        entry.getContentId(), entry.getPosition(), Timestamp.valueOf(entry.getUpdatedAt())}).toList());
+    }
+
+    public Optional<WatchProgressDto> find(String userId, EntityType contentType, Long contentId) {
+        return jdbcTemplate.query(
+                "SELECT * FROM watch_progress WHERE user_id = ? AND content_type = ? AND content_id = ?",
+                ROW_MAPPER, userId, contentType.name(), contentId).stream().findFirst();
+    }
+
+    public List<WatchProgressDto> findRecent(String userId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT * FROM watch_progress WHERE user_id = ? ORDER BY updated_at DESC LIMIT ?",
+                ROW_MAPPER, userId, limit);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.ChangeFeedProperties;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.exception.ChangeFeedExpiredException;
+import com.example.storageservice.model.dto.CatalogChangeDto;
+import com.example.storageservice.model.dto.ChangeFeedPage;
+import com.example.storageservice.repository.CatalogChangeLogRepository;
+import com.example.storageservice.repository.EpisodeRepository;
+import com.example.storageservice.repository.SeasonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeFeedService {
+
+    private final ChangeFeedProperties changeFeedProperties;
+    private final CatalogChangeLogRepository catalogChangeLogRepository;
+    private final SeasonRepository seasonRepository;
+    private final EpisodeRepository episodeRepository;
+    private final JobCoordinator jobCoordinator;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+
+        catalogChangeLogRepository.append(event.getChanges());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        if (event.isRemote() || event.getEntityType() == null || event.getEntityId() == null || event.getProgress() != null) {
+            return;
+        }
+
+        CatalogChange.CatalogChangeBuilder change = CatalogChange.builder()
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .operation(Operation.UPDATED);
+        switch (event.getEntityType()) {
+            case SERIES -> change.seriesId(event.getEntityId());
+            case SEASON -> change.seasonId(event.getEntityId())
+                    .seriesId(seasonRepository.findSeriesIdById(event.getEntityId()).orElse(null));
+            case EPISODE -> episodeRepository.findSeasonIdById(event.getEntityId()).ifPresent(seasonId -> change
+                    .seasonId(seasonId)
+                    .seriesId(seasonRepository.findSeriesIdById(seasonId).orElse(null)));
+            default -> {
+            }
+        }
+        catalogChangeLogRepository.append(List.of(change.build()));
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedPage getChanges(long since, int limit) {
+        requireRetained(since);
+        List<CatalogChangeDto> changes = catalogChangeLogRepository.findSince(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        List<CatalogChangeDto> content = hasMore ? changes.subList(0, limit) : changes;
+
+        return ChangeFeedPage.builder()
+                .changes(content)
+                .nextVersion(content.isEmpty() ? since : content.get(content.size() - 1).getVersion())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public List<CatalogChangeDto> findSince(long since, int limit) {
+        return catalogChangeLogRepository.findSince(since, limit);
+    }
+
+    public long latestVersion() {
+        return catalogChangeLogRepository.findLatestVersion();
+    }
+
+    public void requireRetained(long since) {
+        if (since > 0 && since < catalogChangeLogRepository.findOldestVersion() - 1) {
+            throw new ChangeFeedExpiredException("Changes after version " + since + " are no longer retained, reload the catalog");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@changeFeedProperties.pruneInterval.toMillis()}")
+    public void prune() {
+        jobCoordinator.run("change-feed-prune", changeFeedProperties.getPruneInterval(), context -> deleteExpired());
+    }
+
+    private void deleteExpired() {
+        int deleted = catalogChangeLogRepository.deleteOlderThan(LocalDateTime.now().minus(changeFeedProperties.getRetention()));
+        if (deleted > 0) {
+            log.info("Pruned {} catalog changes older than {}", deleted, changeFeedProperties.getRetention());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.repository.SeasonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogChangePublisher {
+
+    private final SeasonRepository seasonRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(Movie movie, Operation operation) {
+        publish(List.of(toChange(movie, operation)));
+    }
+
+    public void publish(Series series, Operation operation) {
+        publish(List.of(toChange(series, operation)));
+    }
+
+    public void publish(Season season, Operation operation) {
+        publish(List.of(toChange(season, operation)));
+    }
+
+    public void publish(Episode episode, Operation operation) {
+        Long seriesId = seasonRepository.findSeriesIdById(episode.getSeasonId()).orElse(null);
+        publish(List.of(toChange(episode, seriesId, operation)));
+    }
+
+    public void publish(List<CatalogChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        eventPublisher.publishEvent(CatalogChangeEvent.builder().changes(changes).build());
+    }
+
+    public CatalogChange toChange(Movie movie, Operation operation) {
+        return CatalogChange.builder()
+                .entityType(EntityType.MOVIE)
+                .entityId(movie.getId())
+                .operation(operation)
+                .title(movie.getTitle())
+                .build();
+    }
+
+    public CatalogChange toChange(Series series, Operation operation) {
+        return CatalogChange.builder()
+                .entityType(EntityType.SERIES)
+                .entityId(series.getId())
+                .operation(operation)
+                .title(series.getTitle())
+                .seriesId(series.getId())
+                .build();
+    }
+
+    public CatalogChange toChange(Season season, Operation operation) {
+        return CatalogChange.builder()
+                .entityType(EntityType.SEASON)
+                .entityId(season.getId())
+                .operation(operation)
+                .title(season.getTitle())
+                .seriesId(season.getSeriesId())
+                .seasonId(season.getId())
+                .build();
+    }
+
+    public CatalogChange toChange(Episode episode, Long seriesId, Operation operation) {
+        return CatalogChange.builder()
+                .entityType(EntityType.EPISODE)
+                .entityId(episode.getId())
+                .operation(operation)
+                .title(episode.getTitle())
+                .seriesId(seriesId)
+                .seasonId(episode.getSeasonId())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.ChangeFeedProperties;
+import com.example.storageservice.model.dto.CatalogChangeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeStreamService {
+
+    private static final String CHANGE_EVENT = "change";
+
+    private final ChangeFeedProperties changeFeedProperties;
+    private final CatalogChangeFeedService catalogChangeFeedService;
+
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+    public SseEmitter subscribe(Long since) {
+        long start = since != null ? since : catalogChangeFeedService.latestVersion();
+        catalogChangeFeedService.requireRetained(start);
+
+        SseEmitter emitter = new SseEmitter(changeFeedProperties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, start);
+        subscribers.add(subscriber);
+
+        Runnable remove = () -> subscribers.remove(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        catchUp(subscriber);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "#{@changeFeedProperties.pollInterval.toMillis()}")
+    public void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        long from = subscribers.stream().mapToLong(Subscriber::lastVersion).min().orElse(0);
+        int batchSize = changeFeedProperties.getStreamBatchSize();
+        List<CatalogChangeDto> changes;
+        do {
+            changes = catalogChangeFeedService.findSince(from, batchSize);
+            for (Subscriber subscriber : subscribers) {
+                deliver(subscriber, changes);
+            }
+            if (!changes.isEmpty()) {
+                from = changes.get(changes.size() - 1).getVersion();
+            }
+        } while (changes.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "#{@changeFeedProperties.heartbeatInterval.toMillis()}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            synchronized (subscriber) {
+                try {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    private void catchUp(Subscriber subscriber) {
+        int batchSize = changeFeedProperties.getStreamBatchSize();
+        List<CatalogChangeDto> changes;
+        do {
+            changes = catalogChangeFeedService.findSince(subscriber.lastVersion(), batchSize);
+        } while (deliver(subscriber, changes) && changes.size() == batchSize);
+    }
+
+    private boolean deliver(Subscriber subscriber, List<CatalogChangeDto> changes) {
+        synchronized (subscriber) {
+            for (CatalogChangeDto change : changes) {
+                if (change.getVersion() <= subscriber.lastVersion) {
+                    continue;
+                }
+                try {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .name(CHANGE_EVENT)
+                            .id(Long.toString(change.getVersion()))
+                            .data(change));
+                    subscriber.lastVersion = change.getVersion();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping catalog change subscriber: {}", e.getMessage());
+                    subscribers.remove(subscriber);
+                    subscriber.emitter().completeWithError(e);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private volatile long lastVersion;
+
+        private Subscriber(SseEmitter emitter, long lastVersion) {
+            this.emitter = emitter;
+            this.lastVersion = lastVersion;
+        }
+
+        private SseEmitter emitter() {
+            return emitter;
+        }
+
+        private long lastVersion() {
+            return lastVersion;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.CatalogCountersProperties;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.repository.CatalogCounterRepository;
+import com.example.storageservice.repository.CatalogCounterRepository.RepairedRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogCounterVerifier {
+
+    private final CatalogCounterRepository catalogCounterRepository;
+    private final CatalogCountersProperties catalogCountersProperties;
+    private final CatalogChangePublisher catalogChangePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final JobCoordinator jobCoordinator;
+
+    @Scheduled(initialDelayString = "#{@catalogCountersProperties.verifyInterval.toMillis()}",
+            fixedDelayString = "#{@catalogCountersProperties.verifyInterval.toMillis()}")
+    public void verifyCounters() {
+        jobCoordinator.run("catalog-counter-verification", catalogCountersProperties.getVerifyInterval(), context -> {
+            long afterId = context.checkpoint() != null ? Long.parseLong(context.checkpoint()) : 0;
+            int repaired = 0;
+            Optional<Long> lastId;
+            while ((lastId = catalogCounterRepository.findSeriesChunkEnd(afterId, catalogCountersProperties.getChunkSize())).isPresent()) {
+                repaired += repairChunk(afterId, lastId.get());
+                afterId = lastId.get();
+                context.saveCheckpoint(Long.toString(afterId));
+            }
+
+            meterRegistry.counter("storage.catalog.counters.repaired").increment(repaired);
+            if (repaired == 0) {
+                log.debug("Catalog counters verified, no drift found");
+            }
+        });
+    }
+
+    private int repairChunk(long afterId, long lastId) {
+        try {
+            return transactionTemplate.execute(status -> repair(afterId, lastId));
+        } catch (DataAccessException e) {
+            log.warn("Skipped counter verification for series {} to {}: {}", afterId + 1, lastId, e.getMessage());
+            return 0;
+        }
+    }
+
+    private int repair(long afterId, long lastId) {
+        catalogCounterRepository.lockCounterSources(afterId, lastId, catalogCountersProperties.getLockTimeout());
+
+        List<RepairedRow> seasons = catalogCounterRepository.repairSeasonCounters(afterId, lastId);
+        List<RepairedRow> series = catalogCounterRepository.repairSeriesCounters(afterId, lastId);
+        if (seasons.isEmpty() && series.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("Repaired drifted catalog counters: {} seasons, {} series", seasons.size(), series.size());
+
+        List<CatalogChange> changes = new ArrayList<>(seasons.size() + series.size());
+        seasons.forEach(row -> changes.add(toChange(EntityType.SEASON, row)));
+        series.forEach(row -> changes.add(toChange(EntityType.SERIES, row)));
+        catalogChangePublisher.publish(changes);
+
+        return changes.size();
+    }
+
+    private CatalogChange toChange(EntityType type, RepairedRow row) {
+        return CatalogChange.builder()
+                .entityType(type)
+                .entityId(row.id())
+                .operation(Operation.UPDATED)
+                .title(row.title())
+                .seriesId(row.seriesId())
+                .seasonId(type == EntityType.SEASON ? row.id() : null)
+                .build();
+    }
+}
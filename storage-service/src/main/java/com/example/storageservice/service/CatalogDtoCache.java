@@ -0,0 +1,133 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.EpisodeDto;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.MovieDto;
+import com.example.storageservice.model.dto.SeasonDto;
+import com.example.storageservice.model.dto.SeriesDto;
+import com.example.storageservice.repository.EpisodeRepository;
+import com.example.storageservice.repository.SeasonRepository;
+import com.example.storageservice.util.DataSourceRoutingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogDtoCache {
+
+    private static final int BASE_WEIGHT = 256;
+    private static final int MEDIA_WEIGHT = 192;
+
+    private final Cache<Key, Object> catalogDtoCaffeineCache;
+    private final PlatformTransactionManager transactionManager;
+    private final SeasonRepository seasonRepository;
+    private final EpisodeRepository episodeRepository;
+
+    public MovieDto getMovie(Long id, Supplier<MovieDto> loader) {
+        return get(EntityType.MOVIE, id, MovieDto.class, loader);
+    }
+
+    public SeriesDto getSeries(Long id, Supplier<SeriesDto> loader) {
+        return get(EntityType.SERIES, id, SeriesDto.class, loader);
+    }
+
+    public SeasonDto getSeason(Long id, Supplier<SeasonDto> loader) {
+        return get(EntityType.SEASON, id, SeasonDto.class, loader);
+    }
+
+    public EpisodeDto getEpisode(Long id, Supplier<EpisodeDto> loader) {
+        return get(EntityType.EPISODE, id, EpisodeDto.class, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        for (CatalogChange change : event.getChanges()) {
+            evict(change.getEntityType(), change.getEntityId());
+            evict(EntityType.SEASON, change.getSeasonId());
+            evict(EntityType.SERIES, change.getSeriesId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        if (event.getEntityType() == null || event.getEntityId() == null) {
+            return;
+        }
+
+        evict(event.getEntityType(), event.getEntityId());
+        switch (event.getEntityType()) {
+            case SEASON -> evictSeriesOfSeason(event.getEntityId());
+            case EPISODE -> episodeRepository.findSeasonIdById(event.getEntityId()).ifPresent(seasonId -> {
+                evict(EntityType.SEASON, seasonId);
+                evictSeriesOfSeason(seasonId);
+            });
+            default -> {
+            }
+        }
+    }
+
+    @EventListener
+    public void onCacheFlush(CacheFlushEvent event) {
+        catalogDtoCaffeineCache.invalidateAll();
+    }
+
+    public static int weigh(Key key, Object value) {
+        return switch (value) {
+            case MovieDto movie -> BASE_WEIGHT + length(movie.getTitle(), movie.getDescription()) + mediaWeight(movie.getMediaFiles());
+            case SeriesDto series -> BASE_WEIGHT + length(series.getTitle(), series.getDescription())
+                    + mediaWeight(series.getMediaFiles())
+                    + (series.getSeasons() == null ? 0 : series.getSeasons().stream().mapToInt(season -> weigh(key, season)).sum());
+            case SeasonDto season -> BASE_WEIGHT + length(season.getTitle(), season.getDescription())
+                    + mediaWeight(season.getMediaFiles())
+                    + (season.getEpisodes() == null ? 0 : season.getEpisodes().stream().mapToInt(episode -> weigh(key, episode)).sum());
+            case EpisodeDto episode -> BASE_WEIGHT + length(episode.getTitle(), episode.getDescription()) + mediaWeight(episode.getMediaFiles());
+            default -> BASE_WEIGHT;
+        };
+    }
+
+    private <T> T get(EntityType type, Long id, Class<T> dtoType, Supplier<T> loader) {
+        return dtoType.cast(catalogDtoCaffeineCache.get(new Key(type, id), key -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return DataSourceRoutingContext.onPrimary(() -> readOnly.execute(status -> loader.get()));
+        }));
+    }
+
+    private void evictSeriesOfSeason(Long seasonId) {
+        seasonRepository.findSeriesIdById(seasonId).ifPresent(seriesId -> evict(EntityType.SERIES, seriesId));
+    }
+
+    private void evict(EntityType type, Long id) {
+        if (id != null) {
+            catalogDtoCaffeineCache.invalidate(new Key(type, id));
+        }
+    }
+
+    private static int mediaWeight(List<MediaDto> media) {
+        return media == null ? 0 : media.stream()
+                .mapToInt(file -> MEDIA_WEIGHT + length(file.getOriginalFilename(), file.getContentType()))
+                .sum();
+    }
+
+    private static int length(String first, String second) {
+        return 2 * ((first == null ? 0 : first.length()) + (second == null ? 0 : second.length()));
+    }
+
+    public record Key(EntityType type, Long id) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.mapper.EpisodeMapper;
+import com.example.storageservice.mapper.MediaMapper;
+import com.example.storageservice.mapper.MovieMapper;
+import com.example.storageservice.mapper.SeasonMapper;
+import com.example.storageservice.mapper.SeriesMapper;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.dto.EpisodeDto;
+import com.example.storageservice.model.dto.MediaDto;
+import com.example.storageservice.model.dto.MovieDto;
+import com.example.storageservice.model.dto.SeasonDto;
+import com.example.storageservice.model.dto.SeriesDto;
+import com.example.storageservice.repository.EpisodeRepository;
+import com.example.storageservice.repository.EpisodesMediaRepository;
+import com.example.storageservice.repository.MediaLinkRow;
+import com.example.storageservice.repository.MoviesMediaRepository;
+import com.example.storageservice.repository.SeasonRepository;
+import com.example.storageservice.repository.SeasonsMediaRepository;
+import com.example.storageservice.repository.SeriesMediaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogReadService {
+
+    private final SeasonRepository seasonRepository;
+    private final EpisodeRepository episodeRepository;
+    private final MoviesMediaRepository moviesMediaRepository;
+    private final SeriesMediaRepository seriesMediaRepository;
+    private final SeasonsMediaRepository seasonsMediaRepository;
+    private final EpisodesMediaRepository episodesMediaRepository;
+
+    private final MediaMapper mediaMapper;
+    private final MovieMapper movieMapper;
+    private final SeriesMapper seriesMapper;
+    private final SeasonMapper seasonMapper;
+    private final EpisodeMapper episodeMapper;
+
+    public MovieDto toMovieDto(Movie movie) {
+        return toMovieDtos(List.of(movie)).get(0);
+    }
+
+    public Page<MovieDto> toMovieDtos(Page<Movie> movies) {
+        return new PageImpl<>(toMovieDtos(movies.getContent()), movies.getPageable(), movies.getTotalElements());
+    }
+
+    public List<MovieDto> toMovieDtos(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<MediaDto>> media = groupMedia(moviesMediaRepository.findMediaByMovieIds(ids(movies, Movie::getId)));
+
+        return movies.stream()
+                .map(movie -> movieMapper.toDto(movie, mediaOf(media, movie.getId())))
+                .toList();
+    }
+
+    public void attachMovieMedia(List<MovieDto> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<MediaDto>> media = groupMedia(moviesMediaRepository.findMediaByMovieIds(ids(movies, MovieDto::getId)));
+        movies.forEach(movie -> movie.setMediaFiles(mediaOf(media, movie.getId())));
+    }
+
+    public void attachSeriesMedia(List<SeriesDto> series) {
+        if (series.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<MediaDto>> media = groupMedia(seriesMediaRepository.findMediaBySeriesIds(ids(series, SeriesDto::getId)));
+        series.forEach(s -> s.setMediaFiles(mediaOf(media, s.getId())));
+    }
+
+    public Page<SeriesDto> toSeriesDtos(Page<Series> series) {
+        return new PageImpl<>(toSeriesDtos(series.getContent()), series.getPageable(), series.getTotalElements());
+    }
+
+    public List<SeriesDto> toSeriesDtos(List<Series> series) {
+        return toSeriesDtos(series, false);
+    }
+
+    public SeriesDto toSeriesDetail(Series series) {
+        return toSeriesDtos(List.of(series), true).get(0);
+    }
+
+    public SeasonDto toSeasonDetail(Season season) {
+        return toSeasonDtos(List.of(season), true).get(0);
+    }
+
+    public Page<SeasonDto> toSeasonDtos(Page<Season> seasons) {
+        return new PageImpl<>(toSeasonDtos(seasons.getContent()), seasons.getPageable(), seasons.getTotalElements());
+    }
+
+    public List<SeasonDto> toSeasonDtos(List<Season> seasons) {
+        return toSeasonDtos(seasons, false);
+    }
+
+    public List<SeasonDto> toSeasonDetails(List<Season> seasons) {
+        return toSeasonDtos(seasons, true);
+    }
+
+    public EpisodeDto toEpisodeDto(Episode episode) {
+        return toEpisodeDtos(List.of(episode)).get(0);
+    }
+
+    public Page<EpisodeDto> toEpisodeDtos(Page<Episode> episodes) {
+        return new PageImpl<>(toEpisodeDtos(episodes.getContent()), episodes.getPageable(), episodes.getTotalElements());
+    }
+
+    public List<EpisodeDto> toEpisodeDtos(List<Episode> episodes) {
+        if (episodes.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<MediaDto>> media = groupMedia(episodesMediaRepository.findMediaByEpisodeIds(ids(episodes, Episode::getId)));
+
+        return episodes.stream()
+                .map(episode -> episodeMapper.toDto(episode, mediaOf(media, episode.getId())))
+                .toList();
+    }
+
+    private List<SeriesDto> toSeriesDtos(List<Series> series, boolean includeSeasons) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = ids(series, Series::getId);
+        Map<Long, List<MediaDto>> media = groupMedia(seriesMediaRepository.findMediaBySeriesIds(ids));
+        Map<Long, List<SeasonDto>> seasons = includeSeasons
+                ? toSeasonDtos(seasonRepository.findBySeriesIdInOrderBySeasonNumber(ids), true).stream()
+                .collect(Collectors.groupingBy(SeasonDto::getSeriesId))
+                : Map.of();
+
+        return series.stream()
+                .map(s -> seriesMapper.toDto(s, mediaOf(media, s.getId()),
+                        includeSeasons ? seasons.getOrDefault(s.getId(), new ArrayList<>()) : null))
+                .toList();
+    }
+
+    private List<SeasonDto> toSeasonDtos(List<Season> seasons, boolean includeEpisodes) {
+        if (seasons.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = ids(seasons, Season::getId);
+        Map<Long, List<MediaDto>> media = groupMedia(seasonsMediaRepository.findMediaBySeasonIds(ids));
+        Map<Long, List<EpisodeDto>> episodes = includeEpisodes
+                ? toEpisodeDtos(episodeRepository.findBySeasonIdInOrderByEpisodeNumber(ids)).stream()
+                .collect(Collectors.groupingBy(EpisodeDto::getSeasonId))
+                : Map.of();
+
+        return seasons.stream()
+                .map(season -> seasonMapper.toDto(season, mediaOf(media, season.getId()),
+                        includeEpisodes ? episodes.getOrDefault(season.getId(), new ArrayList<>()) : null))
+                .toList();
+    }
+
+    private Map<Long, List<MediaDto>> groupMedia(List<MediaLinkRow> rows) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(MediaLinkRow::getOwnerId,
+                        Collectors.mapping(mediaMapper::toDto, Collectors.toList())));
+    }
+
+    private List<MediaDto> mediaOf(Map<Long, List<MediaDto>> media, Long ownerId) {
+        return media.getOrDefault(ownerId, new ArrayList<>());
+    }
+
+    private <T> List<Long> ids(Collection<T> entities, Function<T, Long> id) {
+        return entities.stream().map(id).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.ResponseCacheProperties;
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogResponseCache {
+
+    private final ResponseCacheProperties responseCacheProperties;
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public CachedResponse store(String key, long observedGeneration, String contentType, byte[] body) {
+        CachedResponse response = new CachedResponse(contentType, body, gzip(body), DigestUtils.md5DigestAsHex(body));
+        if (entries.size() < responseCacheProperties.getMaxEntries() || entries.containsKey(key)) {
+            entries.put(key, response);
+            if (generation.get() != observedGeneration) {
+                entries.remove(key, response);
+            }
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onCacheFlush(CacheFlushEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record CachedResponse(String contentType, byte[] body, byte[] gzipBody, String digest) {
+
+        public String etag() {
+            return "\"" + digest + "\"";
+        }
+
+        public String gzipEtag() {
+            return "\"" + digest + "-gzip\"";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.SearchResultDto;
+import com.example.storageservice.repository.CatalogSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+
+    private static final Set<EntityType> SEARCHABLE_TYPES = EnumSet.of(EntityType.MOVIE, EntityType.SERIES, EntityType.EPISODE);
+
+    private final CatalogSearchRepository catalogSearchRepository;
+
+    @Transactional(readOnly = true)
+    public List<SearchResultDto> search(String query, Set<EntityType> types, int limit) {
+        String normalized = query.trim().replaceAll("\\s+", " ");
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+
+        Set<EntityType> requested = CollectionUtils.isEmpty(types) ? SEARCHABLE_TYPES : EnumSet.copyOf(types);
+        if (!SEARCHABLE_TYPES.containsAll(requested)) {
+            throw new IllegalArgumentException("Unsupported search types: " + requested + ", expected any of " + SEARCHABLE_TYPES);
+        }
+
+        log.debug("Searching catalog - query: {}, types: {}, limit: {}", normalized, requested, limit);
+
+        return catalogSearchRepository.search(normalized, requested, limit);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.CatalogTransferProperties;
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.CatalogImportResult;
+import com.example.storageservice.model.dto.CatalogRecord;
+import com.example.storageservice.repository.CatalogTransferRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogTransferService {
+
+    private final CatalogTransferRepository catalogTransferRepository;
+    private final CatalogTransferProperties catalogTransferProperties;
+    private final CatalogChangePublisher catalogChangePublisher;
+    private final InvalidationBusPublisher invalidationBusPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportCatalog(OutputStream output) throws IOException {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        try {
+            snapshot.executeWithoutResult(status -> {
+                catalogTransferRepository.scanMediaFiles(record -> write(generator, record));
+                catalogTransferRepository.scanMovies(record -> write(generator, record));
+                catalogTransferRepository.scanSeries(record -> write(generator, record));
+                catalogTransferRepository.scanSeasons(record -> write(generator, record));
+                catalogTransferRepository.scanEpisodes(record -> write(generator, record));
+                catalogTransferRepository.scanMediaLinks(record -> write(generator, record));
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.close();
+    }
+
+    public CatalogImportResult importCatalog(InputStream input) throws IOException {
+        CatalogImportResult result = CatalogImportResult.builder().startedAt(LocalDateTime.now()).build();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<CatalogRecord> batch = new ArrayList<>(catalogTransferProperties.getBatchSize());
+
+        try (MappingIterator<CatalogRecord> records = objectMapper.readerFor(CatalogRecord.class).readValues(input)) {
+            while (records.hasNext()) {
+                CatalogRecord record = next(records, result);
+                if (!batch.isEmpty() && (batch.size() >= catalogTransferProperties.getBatchSize()
+                        || batch.get(0).getClass() != record.getClass())) {
+                    transactionTemplate.executeWithoutResult(status -> upsert(batch, result));
+                    batch.clear();
+                }
+                batch.add(record);
+            }
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> upsert(batch, result));
+            }
+        } finally {
+            catalogTransferRepository.advanceSequences();
+            eventPublisher.publishEvent(CacheFlushEvent.builder().reason("catalog import").build());
+            invalidationBusPublisher.publishFlush();
+        }
+
+        result.setFinishedAt(LocalDateTime.now());
+        log.info("Catalog import finished: {} records, {} movies, {} series, {} seasons, {} episodes, {} media files, {} media links, " +
+                        "{} seasons and {} episodes skipped", result.getRecords(), result.getMovies(), result.getSeries(),
+                result.getSeasons(), result.getEpisodes(), result.getMediaFiles(), result.getMediaLinks(),
+                result.getSkippedSeasons(), result.getSkippedEpisodes());
+
+        return result;
+    }
+
+    private CatalogRecord next(MappingIterator<CatalogRecord> records, CatalogImportResult result) {
+        long line = result.getRecords() + 1;
+        try {
+            CatalogRecord record = records.next();
+            result.setRecords(line);
+            return record;
+        } catch (RuntimeJsonMappingException e) {
+            throw new IllegalArgumentException("Invalid catalog record " + line + ": " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void upsert(List<CatalogRecord> batch, CatalogImportResult result) {
+        int size = batch.size();
+        List<CatalogChange> changes = new ArrayList<>();
+
+        switch (batch.get(0)) {
+            case CatalogRecord.MediaFile ignored -> {
+                catalogTransferRepository.upsertMediaFiles((List<CatalogRecord.MediaFile>) (List<?>) batch);
+                result.setMediaFiles(result.getMediaFiles() + size);
+            }
+            case CatalogRecord.Movie ignored -> {
+                List<CatalogRecord.Movie> movies = (List<CatalogRecord.Movie>) (List<?>) batch;
+                catalogTransferRepository.upsertMovies(movies);
+                movies.forEach(m -> changes.add(change(EntityType.MOVIE, m.getId(), m.getTitle(), null, null)));
+                result.setMovies(result.getMovies() + size);
+            }
+            case CatalogRecord.Series ignored -> {
+                List<CatalogRecord.Series> series = (List<CatalogRecord.Series>) (List<?>) batch;
+                catalogTransferRepository.upsertSeries(series);
+                series.forEach(s -> changes.add(change(EntityType.SERIES, s.getId(), s.getTitle(), s.getId(), null)));
+                result.setSeries(result.getSeries() + size);
+            }
+            case CatalogRecord.Season ignored -> {
+                List<CatalogRecord.Season> seasons = (List<CatalogRecord.Season>) (List<?>) batch;
+                boolean[] applied = catalogTransferRepository.upsertSeasons(seasons);
+                for (int i = 0; i < size; i++) {
+                    CatalogRecord.Season s = seasons.get(i);
+                    if (applied[i]) {
+                        changes.add(change(EntityType.SEASON, s.getId(), s.getTitle(), s.getSeriesId(), s.getId()));
+                        result.setSeasons(result.getSeasons() + 1);
+                    } else {
+                        log.warn("Skipped season {}: series {} already has season {}", s.getId(), s.getSeriesId(), s.getSeasonNumber());
+                        result.setSkippedSeasons(result.getSkippedSeasons() + 1);
+                    }
+                }
+            }
+            case CatalogRecord.Episode ignored -> {
+                List<CatalogRecord.Episode> episodes = (List<CatalogRecord.Episode>) (List<?>) batch;
+                boolean[] applied = catalogTransferRepository.upsertEpisodes(episodes);
+                for (int i = 0; i < size; i++) {
+                    CatalogRecord.Episode e = episodes.get(i);
+                    if (applied[i]) {
+                        changes.add(change(EntityType.EPISODE, e.getId(), e.getTitle(), e.getSeriesId(), e.getSeasonId()));
+                        result.setEpisodes(result.getEpisodes() + 1);
+                    } else {
+                        log.warn("Skipped episode {}: season {} already has episode {}", e.getId(), e.getSeasonId(), e.getEpisodeNumber());
+                        result.setSkippedEpisodes(result.getSkippedEpisodes() + 1);
+                    }
+                }
+            }
+            case CatalogRecord.MediaLink ignored -> {
+                catalogTransferRepository.upsertMediaLinks((List<CatalogRecord.MediaLink>) (List<?>) batch);
+                result.setMediaLinks(result.getMediaLinks() + size);
+            }
+            default -> throw new IllegalArgumentException("Unsupported catalog record: " + batch.get(0).getClass().getSimpleName());
+        }
+
+        catalogChangePublisher.publish(changes);
+    }
+
+    private CatalogChange change(EntityType type, Long id, String title, Long seriesId, Long seasonId) {
+        return CatalogChange.builder()
+                .entityType(type)
+                .entityId(id)
+                .operation(Operation.UPDATED)
+                .title(title)
+                .seriesId(seriesId)
+                .seasonId(seasonId)
+                .build();
+    }
+
+    private void write(JsonGenerator generator, CatalogRecord record) {
+        try {
+            generator.writeObject(record);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.example.storageservice.model.SeriesMedia;
 import com.example.storageservice.model.UploadStatus;
 import com.example.storageservice.model.dto.FileUploadRequest;
 import com.example.storageservice.model.dto.FileUploadResponse;
+import com.example.storageservice.model.dto.UploadStatusDto;
 import com.example.storageservice.repository.EpisodeRepository;
 import com.example.storageservice.repository.EpisodesMediaRepository;
 import com.example.storageservice.repository.MediaFileRepository;
@@ -22,24 +23,26 @@ import com.example.storageservice.repository.SeasonRepository;
 import com.example.storageservice.repository.SeasonsMediaRepository;
 import com.example.storageservice.repository.SeriesMediaRepository;
 import com.example.storageservice.repository.SeriesRepository;
+import com.example.storageservice.util.ObjectKeys;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
-import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static com.example.storageservice.model.EntityType.EPISODE;
+import static com.example.storageservice.model.EntityType.SERIES;
 
 @Slf4j
 @Service
@@ -60,6 +63,9 @@ public class FileUploadService {
     private final SeriesMediaRepository seriesMediaRepository;
     private final SeasonsMediaRepository seasonsMediaRepository;
 
+    private final StorageOutboxService storageOutboxService;
+    private final MediaStatusPublisher mediaStatusPublisher;
+
     private static final long UPLOAD_EXPIRY_HOURS = 24;
 
     @Transactional
@@ -95,6 +101,7 @@ public class FileUploadService {
             mediaFile = mediaFileRepository.save(mediaFile);
 
             linkMediaToEntity(mediaFile, request);
+            mediaStatusPublisher.publish(mediaFile, request.getEntityType(), request.getEntityId());
 
             log.info("File upload initiated: {} for {} ID: {}, uploadSessionId: {}",
                     request.getOriginalFilename(), request.getEntityType(),
@@ -113,58 +120,105 @@ public class FileUploadService {
         }
     }
 
-    @Async
+    @Async("uploadTaskExecutor")
     @Transactional
     public void handleFileUploadCompletion(String bucket, String objectKey) {
         log.info("Processing file upload completion for object: {}", objectKey);
 
         mediaFileRepository.findByMinioLocation(bucket, objectKey)
                 .ifPresentOrElse(file -> {
-                    file.setUploadStatus(UploadStatus.COMPLETED);
-                    file.setPresignedUrl(null);
-                    file.setPresignedExpiresAt(null);
-                    mediaFileRepository.save(file);
-                    log.info("Media file upload completed: {} (ID: {})", file.getOriginalFilename(), file.getId());
+                    if (markCompleted(file.getId(), null)) {
+                        log.info("Media file upload completed: {} (ID: {})", file.getOriginalFilename(), file.getId());
+                    } else {
+                        log.debug("Ignoring duplicate completion for media file {}", file.getId());
+                    }
                 }, () -> log.warn("No media file record found for key: {}", objectKey));
     }
 
+    @Transactional
+    public UploadStatusDto confirmUpload(String uploadSessionId) {
+        MediaFile file = mediaFileRepository.findByUploadSessionId(uploadSessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found: " + uploadSessionId));
+
+        if (file.getUploadStatus() == UploadStatus.PENDING || file.getUploadStatus() == UploadStatus.UPLOADING) {
+            StatObjectResponse stat = statObject(file);
+            if (markCompleted(file.getId(), stat.size())) {
+                log.info("Media file upload confirmed: {} (ID: {})", file.getOriginalFilename(), file.getId());
+            }
+        }
+
+        return mediaStatusPublisher.findEvents(List.of(file.getId())).stream()
+                .findFirst()
+                .map(mediaStatusPublisher::toStatusDto)
+                .orElseThrow();
+    }
+
+    @Transactional
+    public MediaFile registerServerSideUpload(FileUploadRequest request, String objectKey) {
+        validateEntityExists(request);
+
+        MediaFile mediaFile = MediaFile.builder()
+                .originalFilename(request.getOriginalFilename())
+                .contentType(request.getMimeType())
+                .fileSize(request.getFileSize())
+                .minioBucket(minioProperties.getBucket())
+                .minioObjectKey(objectKey)
+                .uploadStatus(UploadStatus.UPLOADING)
+                .uploadSessionId(UUID.randomUUID().toString())
+                .build();
+
+        mediaFile = mediaFileRepository.save(mediaFile);
+
+        linkMediaToEntity(mediaFile, request);
+        mediaStatusPublisher.publish(mediaFile, request.getEntityType(), request.getEntityId());
+
+        return mediaFile;
+    }
+
+    @Transactional
+    public void completeServerSideUpload(Long mediaFileId, long fileSize) {
+        markCompleted(mediaFileId, fileSize);
+    }
+
+    @Transactional
+    public void failServerSideUpload(Long mediaFileId) {
+        mediaFileRepository.updateStatus(List.of(mediaFileId), UploadStatus.FAILED);
+        mediaStatusPublisher.publish(List.of(mediaFileId));
+    }
+
     @Transactional
     public void deleteFile(Long mediaFileId) {
         MediaFile file = mediaFileRepository.findById(mediaFileId)
                 .orElseThrow(() -> new IllegalArgumentException("Media file not found: " + mediaFileId));
 
-        try {
-            minioClient.removeObject(
-                    RemoveObjectArgs.builder()
-                            .bucket(file.getMinioBucket())
-                            .object(file.getMinioObjectKey())
-                            .build());
-            log.debug("File deleted from storage: {}", file.getMinioObjectKey());
-        } catch (Exception e) {
-            log.error("Error deleting file from storage: {}", e.getMessage());
-        }
+        storageOutboxService.enqueueObjectRemoval(file.getMinioBucket(), file.getMinioObjectKey());
 
         mediaFileRepository.delete(file);
         log.info("Media file record deleted: {}", mediaFileId);
     }
 
-    @Scheduled(fixedRate = 3600000)
-    @Transactional
-    public void cleanupExpiredPresignedUrls() {
-        LocalDateTime now = LocalDateTime.now();
-        List<UploadStatus> statuses = Arrays.asList(UploadStatus.PENDING, UploadStatus.UPLOADING);
-
-        List<MediaFile> expiredFiles = mediaFileRepository.findExpiredPresignedUrls(statuses, now);
-
-        for (MediaFile file : expiredFiles) {
-            file.setUploadStatus(UploadStatus.FAILED);
-            file.setPresignedUrl(null);
-            file.setPresignedExpiresAt(null);
-            mediaFileRepository.save(file);
+    private boolean markCompleted(Long mediaFileId, Long fileSize) {
+        if (mediaFileRepository.completeUpload(mediaFileId, fileSize) == 0) {
+            return false;
         }
 
-        if (!expiredFiles.isEmpty()) {
-            log.info("Cleaned up {} expired media files", expiredFiles.size());
+        mediaStatusPublisher.publish(List.of(mediaFileId));
+        return true;
+    }
+
+    private StatObjectResponse statObject(MediaFile file) {
+        try {
+            return minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(file.getMinioBucket())
+                    .object(file.getMinioObjectKey())
+                    .build());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new IllegalArgumentException("Object has not been uploaded yet: " + file.getMinioObjectKey());
+            }
+            throw new RuntimeException("Failed to verify uploaded object", e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to verify uploaded object", e);
         }
     }
 
@@ -227,29 +281,15 @@ public class FileUploadService {
     }
 
     private String generateObjectKey(FileUploadRequest request) {
-        String extension = "";
-        if (request.getOriginalFilename() != null && request.getOriginalFilename().contains(".")) {
-            extension = request.getOriginalFilename().substring(request.getOriginalFilename().lastIndexOf("."));
-        }
-
         if (request.getEntityType() == EPISODE) {
             Episode episode = episodeRepository.findById(request.getEntityId())
                     .orElseThrow(() -> new IllegalArgumentException("Episode not found: " + request.getEntityId()));
 
             Long seriesId = episode.getSeason().getSeries().getId();
 
-            return String.format("seriess/%d/%s/%s%s",
-                    seriesId,
-                    request.getCategory().name().toLowerCase(),
-                    UUID.randomUUID(),
-                    extension);
+            return ObjectKeys.build(SERIES, seriesId, request.getCategory(), request.getOriginalFilename());
         }
 
-        return String.format("%ss/%d/%s/%s%s",
-                request.getEntityType().name().toLowerCase(),
-                request.getEntityId(),
-                request.getCategory().name().toLowerCase(),
-                UUID.randomUUID(),
-                extension);
+        return ObjectKeys.build(request.getEntityType(), request.getEntityId(), request.getCategory(), request.getOriginalFilename());
     }
 }
@@ -0,0 +1,193 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.InvalidationBusProperties;
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.model.dto.InvalidationMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationBusListener implements SmartLifecycle {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final InvalidationBusProperties invalidationBusProperties;
+    private final DataSourceProperties dataSourceProperties;
+    private final InvalidationBusPublisher invalidationBusPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Connection connection;
+
+    @Override
+    public void start() {
+        if (!invalidationBusProperties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        worker = Thread.ofPlatform().name("invalidation-bus").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        DataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        boolean missedNotifications = false;
+
+        while (running) {
+            try (Connection listenConnection = dataSource.getConnection()) {
+                connection = listenConnection;
+                try (Statement statement = listenConnection.createStatement()) {
+                    statement.execute("LISTEN \"" + invalidationBusProperties.getChannel() + "\"");
+                }
+                log.info("Listening for cache invalidations on channel {}", invalidationBusProperties.getChannel());
+
+                if (missedNotifications) {
+                    flush("invalidation bus reconnected");
+                    missedNotifications = false;
+                }
+                receive(listenConnection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation bus connection lost: {}", e.getMessage());
+                }
+            }
+
+            missedNotifications = true;
+            if (running) {
+                sleep();
+            }
+        }
+    }
+
+    private void receive(Connection listenConnection) throws SQLException {
+        PGConnection pgConnection = listenConnection.unwrap(PGConnection.class);
+        int pollTimeout = (int) invalidationBusProperties.getPollTimeout().toMillis();
+        long checkInterval = invalidationBusProperties.getHealthCheckInterval().toNanos();
+        long lastCheck = System.nanoTime();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+            }
+
+            if (System.nanoTime() - lastCheck >= checkInterval) {
+                if (!listenConnection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Invalidation bus connection is no longer valid");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            InvalidationMessage message = objectMapper.readValue(payload, InvalidationMessage.class);
+            if (invalidationBusPublisher.nodeId().equals(message.getOrigin())) {
+                return;
+            }
+
+            meterRegistry.counter("storage.invalidation-bus.messages", "direction", "received").increment();
+            if (message.isFlush()) {
+                flush("flush requested by " + message.getOrigin());
+                return;
+            }
+            if (!message.getChanges().isEmpty()) {
+                eventPublisher.publishEvent(CatalogChangeEvent.builder()
+                        .changes(message.getChanges().stream().map(this::toChange).toList())
+                        .remote(true)
+                        .build());
+            }
+            for (InvalidationMessage.Media media : message.getMedia()) {
+                eventPublisher.publishEvent(MediaStatusEvent.builder()
+                        .mediaFileId(media.getMediaFileId())
+                        .status(media.getStatus())
+                        .entityType(media.getType())
+                        .entityId(media.getId())
+                        .remote(true)
+                        .build());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply invalidation message, flushing local caches", e);
+            flush("invalid invalidation message");
+        }
+    }
+
+    private void flush(String reason) {
+        log.info("Flushing local caches: {}", reason);
+        meterRegistry.counter("storage.invalidation-bus.flushes").increment();
+        eventPublisher.publishEvent(CacheFlushEvent.builder().reason(reason).build());
+    }
+
+    private CatalogChange toChange(InvalidationMessage.Change change) {
+        return CatalogChange.builder()
+                .entityType(change.getType())
+                .entityId(change.getId())
+                .operation(change.getOp())
+                .title(change.getTitle())
+                .seriesId(change.getSeriesId())
+                .seasonId(change.getSeasonId())
+                .build();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(invalidationBusProperties.getReconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeQuietly(Connection listenConnection) {
+        if (listenConnection == null) {
+            return;
+        }
+        try {
+            listenConnection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close invalidation bus connection: {}", e.getMessage());
+        }
+    }
+}
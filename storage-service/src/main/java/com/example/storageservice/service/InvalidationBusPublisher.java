@@ -0,0 +1,116 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.InvalidationBusProperties;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.model.dto.InvalidationMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InvalidationBusPublisher {
+
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final InvalidationBusProperties invalidationBusProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (!invalidationBusProperties.isEnabled() || event.isRemote() || event.getChanges().isEmpty()) {
+            return;
+        }
+
+        send(event.getChanges().stream().map(this::toChange).toList(), List.of());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        if (!invalidationBusProperties.isEnabled() || event.isRemote()
+                || event.getEntityType() == null || event.getEntityId() == null || event.getProgress() != null) {
+            return;
+        }
+
+        send(List.of(), List.of(InvalidationMessage.Media.builder()
+                .type(event.getEntityType())
+                .id(event.getEntityId())
+                .mediaFileId(event.getMediaFileId())
+                .status(event.getStatus())
+                .build()));
+    }
+
+    public void publishFlush() {
+        if (!invalidationBusProperties.isEnabled()) {
+            return;
+        }
+
+        notify(serialize(InvalidationMessage.builder().origin(nodeId).flush(true).build()));
+    }
+
+    private void send(List<InvalidationMessage.Change> changes, List<InvalidationMessage.Media> media) {
+        String payload = serialize(InvalidationMessage.builder().origin(nodeId).changes(changes).media(media).build());
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+            notify(payload);
+            return;
+        }
+
+        if (changes.size() + media.size() <= 1) {
+            log.warn("Invalidation message exceeds {} bytes, asking other nodes to flush", MAX_PAYLOAD_BYTES);
+            notify(serialize(InvalidationMessage.builder().origin(nodeId).flush(true).build()));
+            return;
+        }
+        if (changes.size() > 1) {
+            send(changes.subList(0, changes.size() / 2), List.of());
+            send(changes.subList(changes.size() / 2, changes.size()), media);
+        } else {
+            send(changes, media.subList(0, media.size() / 2));
+            send(List.of(), media.subList(media.size() / 2, media.size()));
+        }
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", invalidationBusProperties.getChannel(), payload);
+        meterRegistry.counter("storage.invalidation-bus.messages", "direction", "sent").increment();
+    }
+
+    private String serialize(InvalidationMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize invalidation message", e);
+        }
+    }
+
+    private InvalidationMessage.Change toChange(CatalogChange change) {
+        return InvalidationMessage.Change.builder()
+                .type(change.getEntityType())
+                .id(change.getEntityId())
+                .op(change.getOperation())
+                .title(change.getTitle())
+                .seriesId(change.getSeriesId())
+                .seasonId(change.getSeasonId())
+                .build();
+    }
+}
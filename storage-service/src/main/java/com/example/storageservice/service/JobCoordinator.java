@@ -0,0 +1,125 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.JobCoordinationProperties;
+import com.example.storageservice.repository.ScheduledJobRepository;
+import com.example.storageservice.repository.ScheduledJobRepository.JobState;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobCoordinator {
+
+    private static final int LOCK_NAMESPACE = 0x4a4f42;
+    private static final String RUNNING = "RUNNING";
+
+    private final JobCoordinationProperties jobCoordinationProperties;
+    private final ScheduledJobRepository scheduledJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final String node = ManagementFactory.getRuntimeMXBean().getName();
+
+    public boolean run(String name, Duration minimumSpacing, Consumer<JobContext> job) {
+        if (!sleepJitter()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!lock(connection, "pg_try_advisory_lock", name)) {
+                log.debug("Job {} is already running on another node", name);
+                return false;
+            }
+            try {
+                return runLocked(name, minimumSpacing, job);
+            } finally {
+                lock(connection, "pg_advisory_unlock", name);
+            }
+        }));
+    }
+
+    private boolean runLocked(String name, Duration minimumSpacing, Consumer<JobContext> job) {
+        JobState state = scheduledJobRepository.find(name, minimumSpacing).orElse(null);
+        boolean resuming = state != null && RUNNING.equals(state.lastStatus());
+        if (state != null && !resuming && !state.due()) {
+            log.debug("Job {} already ran within {}", name, minimumSpacing);
+            return false;
+        }
+
+        String checkpoint = state != null ? state.checkpoint() : null;
+        if (resuming) {
+            log.warn("Job {} was interrupted on another node, resuming from checkpoint {}", name, checkpoint);
+        }
+
+        scheduledJobRepository.markStarted(name, node);
+        long started = System.nanoTime();
+        String result = "succeeded";
+        try {
+            job.accept(new JobContext(name, checkpoint));
+            scheduledJobRepository.markFinished(name, "SUCCEEDED", null, true);
+        } catch (RuntimeException e) {
+            result = "failed";
+            log.warn("Job {} failed: {}", name, e.getMessage());
+            scheduledJobRepository.markFinished(name, "FAILED", e.toString(), false);
+        } finally {
+            meterRegistry.timer("storage.jobs.duration", "job", name, "result", result)
+                    .record(Duration.ofNanos(System.nanoTime() - started));
+        }
+        return true;
+    }
+
+    private boolean lock(Connection connection, String function, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private boolean sleepJitter() {
+        long maxJitter = jobCoordinationProperties.getMaxJitter().toMillis();
+        if (maxJitter <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxJitter));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public class JobContext {
+        private final String name;
+        private final String checkpoint;
+
+        private JobContext(String name, String checkpoint) {
+            this.name = name;
+            this.checkpoint = checkpoint;
+        }
+
+        public String checkpoint() {
+            return checkpoint;
+        }
+
+        public void saveCheckpoint(String value) {
+            scheduledJobRepository.saveCheckpoint(name, value);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.LibraryImportProperties;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.MediaFile;
+import com.example.storageservice.model.Movie;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.dto.FileUploadRequest;
+import com.example.storageservice.model.dto.ImportItemDto;
+import com.example.storageservice.model.dto.ImportJobDto;
+import com.example.storageservice.model.dto.LibraryImportManifest;
+import com.example.storageservice.model.dto.LibraryImportManifest.EpisodeImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.ImportFile;
+import com.example.storageservice.model.dto.LibraryImportManifest.MovieImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.SeasonImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.SeriesImportItem;
+import com.example.storageservice.repository.CatalogBatchRepository;
+import com.example.storageservice.util.ObjectKeys;
+import io.minio.MinioClient;
+import io.minio.UploadObjectArgs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LibraryImportService {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final MinioClient minioClient;
+    private final LibraryImportProperties libraryImportProperties;
+    private final CatalogBatchRepository catalogBatchRepository;
+    private final FileUploadService fileUploadService;
+    private final LibraryScanner libraryScanner;
+    private final CatalogChangePublisher catalogChangePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor importTaskExecutor;
+
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    public LibraryImportManifest scan(String directory) {
+        Path root = importRoot();
+        Path target = resolveDirectory(root, directory);
+
+        return libraryScanner.scan(root, target);
+    }
+
+    public ImportJobDto startImport(LibraryImportManifest manifest) {
+        Path root = importRoot();
+        validateManifest(manifest, root);
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        List<PendingUpload> uploads = transactionTemplate.execute(status -> createCatalog(manifest, root, job));
+
+        registerJob(job);
+        log.info("Library import {} created {} movies, {} series, {} seasons, {} episodes; uploading {} files",
+                job.id, job.moviesCreated, job.seriesCreated, job.seasonsCreated, job.episodesCreated, uploads.size());
+
+        CompletableFuture<?>[] futures = uploads.stream()
+                .map(upload -> CompletableFuture.runAsync(() -> upload(job, upload), importTaskExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((result, error) -> {
+            job.finishedAt = LocalDateTime.now();
+            log.info("Library import {} finished: {} completed, {} failed",
+                    job.id, job.completedFiles.get(), job.failedFiles.get());
+        });
+
+        return job.toDto();
+    }
+
+    public ImportJobDto getJob(String jobId) {
+        synchronized (jobs) {
+            ImportJob job = jobs.get(jobId);
+            if (job == null) {
+                throw new IllegalArgumentException("Import job not found: " + jobId);
+            }
+            return job.toDto();
+        }
+    }
+
+    public List<ImportJobDto> getJobs() {
+        synchronized (jobs) {
+            return jobs.values().stream().map(ImportJob::toDto).toList();
+        }
+    }
+
+    private List<PendingUpload> createCatalog(LibraryImportManifest manifest, Path root, ImportJob job) {
+        List<PendingUpload> uploads = new ArrayList<>();
+
+        List<MovieImportItem> movieItems = manifest.getMovies();
+        List<Long> movieIds = catalogBatchRepository.allocateIds("movies", movieItems.size());
+        List<Movie> movies = new ArrayList<>(movieItems.size());
+        for (int i = 0; i < movieItems.size(); i++) {
+            MovieImportItem item = movieItems.get(i);
+            Long movieId = movieIds.get(i);
+            movies.add(Movie.builder()
+                    .id(movieId)
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .year(item.getYear())
+                    .duration(item.getDuration())
+                    .build());
+            addUploads(uploads, job, root, item.getFiles(), EntityType.MOVIE, movieId, EntityType.MOVIE, movieId);
+        }
+        catalogBatchRepository.insertMovies(movies);
+
+        List<SeriesImportItem> seriesItems = manifest.getSeries();
+        List<Long> seriesIds = catalogBatchRepository.allocateIds("series", seriesItems.size());
+        List<Long> seasonIds = catalogBatchRepository.allocateIds("seasons", countSeasons(seriesItems));
+        List<Long> episodeIds = catalogBatchRepository.allocateIds("episodes", countEpisodes(seriesItems));
+        List<Series> series = new ArrayList<>(seriesItems.size());
+        List<Season> seasons = new ArrayList<>(seasonIds.size());
+        List<Episode> episodes = new ArrayList<>(episodeIds.size());
+
+        for (int i = 0; i < seriesItems.size(); i++) {
+            SeriesImportItem seriesItem = seriesItems.get(i);
+            Long seriesId = seriesIds.get(i);
+            series.add(Series.builder()
+                    .id(seriesId)
+                    .title(seriesItem.getTitle())
+                    .description(seriesItem.getDescription())
+                    .year(seriesItem.getYear())
+                    .build());
+            addUploads(uploads, job, root, seriesItem.getFiles(), EntityType.SERIES, seriesId, EntityType.SERIES, seriesId);
+
+            for (SeasonImportItem seasonItem : seriesItem.getSeasons()) {
+                Long seasonId = seasonIds.get(seasons.size());
+                seasons.add(Season.builder()
+                        .id(seasonId)
+                        .seriesId(seriesId)
+                        .seasonNumber(seasonItem.getSeasonNumber())
+                        .title(seasonItem.getTitle())
+                        .description(seasonItem.getDescription())
+                        .build());
+                addUploads(uploads, job, root, seasonItem.getFiles(), EntityType.SEASON, seasonId, EntityType.SEASON, seasonId);
+
+                for (EpisodeImportItem episodeItem : seasonItem.getEpisodes()) {
+                    Long episodeId = episodeIds.get(episodes.size());
+                    episodes.add(Episode.builder()
+                            .id(episodeId)
+                            .seasonId(seasonId)
+                            .episodeNumber(episodeItem.getEpisodeNumber())
+                            .title(episodeItem.getTitle())
+                            .description(episodeItem.getDescription())
+                            .duration(episodeItem.getDuration())
+                            .build());
+                    addUploads(uploads, job, root, episodeItem.getFiles(), EntityType.EPISODE, episodeId, EntityType.SERIES, seriesId);
+                }
+            }
+        }
+
+        catalogBatchRepository.insertSeries(series);
+        catalogBatchRepository.insertSeasons(seasons);
+        catalogBatchRepository.insertEpisodes(episodes);
+
+        List<CatalogChange> changes = new ArrayList<>(movies.size() + series.size() + seasons.size() + episodes.size());
+        movies.forEach(movie -> changes.add(catalogChangePublisher.toChange(movie, Operation.CREATED)));
+        series.forEach(item -> changes.add(catalogChangePublisher.toChange(item, Operation.CREATED)));
+        seasons.forEach(season -> changes.add(catalogChangePublisher.toChange(season, Operation.CREATED)));
+        Map<Long, Long> seriesIdsBySeason = new HashMap<>();
+        seasons.forEach(season -> seriesIdsBySeason.put(season.getId(), season.getSeriesId()));
+        episodes.forEach(episode -> changes.add(
+                catalogChangePublisher.toChange(episode, seriesIdsBySeason.get(episode.getSeasonId()), Operation.CREATED)));
+        catalogChangePublisher.publish(changes);
+
+        job.moviesCreated = movies.size();
+        job.seriesCreated = series.size();
+        job.seasonsCreated = seasons.size();
+        job.episodesCreated = episodes.size();
+        return uploads;
+    }
+
+    private void addUploads(List<PendingUpload> uploads, ImportJob job, Path root, List<ImportFile> files,
+                            EntityType entityType, Long entityId, EntityType ownerType, Long ownerId) {
+        for (ImportFile file : files) {
+            Path path = resolveFile(root, file.getPath());
+            long size = fileSize(path);
+
+            ImportItemDto item = ImportItemDto.builder()
+                    .entityType(entityType)
+                    .entityId(entityId)
+                    .path(file.getPath())
+                    .category(file.getCategory())
+                    .fileSize(size)
+                    .status(ImportItemDto.Status.PENDING)
+                    .build();
+            job.items.add(item);
+            job.totalBytes += size;
+
+            uploads.add(new PendingUpload(item, file, path, ownerType, ownerId));
+        }
+    }
+
+    private void upload(ImportJob job, PendingUpload upload) {
+        ImportItemDto item = upload.item();
+        item.setStatus(ImportItemDto.Status.UPLOADING);
+
+        MediaFile mediaFile = null;
+        try {
+            String filename = upload.path().getFileName().toString();
+            String contentType = contentType(upload);
+            String objectKey = ObjectKeys.build(upload.ownerType(), upload.ownerId(), item.getCategory(), filename);
+
+            mediaFile = fileUploadService.registerServerSideUpload(FileUploadRequest.builder()
+                    .originalFilename(filename)
+                    .mimeType(contentType)
+                    .fileSize(item.getFileSize())
+                    .entityType(item.getEntityType())
+                    .entityId(item.getEntityId())
+                    .category(item.getCategory())
+                    .isPrimary(upload.file().isPrimary())
+                    .build(), objectKey);
+            item.setMediaFileId(mediaFile.getId());
+
+            minioClient.uploadObject(UploadObjectArgs.builder()
+                    .bucket(mediaFile.getMinioBucket())
+                    .object(objectKey)
+                    .filename(upload.path().toString(), libraryImportProperties.getPartSize().toBytes())
+                    .contentType(contentType)
+                    .build());
+
+            fileUploadService.completeServerSideUpload(mediaFile.getId(), item.getFileSize());
+            item.setStatus(ImportItemDto.Status.COMPLETED);
+            job.completedFiles.incrementAndGet();
+            job.uploadedBytes.addAndGet(item.getFileSize());
+        } catch (Exception e) {
+            log.error("Library import {} failed to upload {}: {}", job.id, item.getPath(), e.getMessage(), e);
+            if (mediaFile != null) {
+                fileUploadService.failServerSideUpload(mediaFile.getId());
+            }
+            item.setError(e.getMessage());
+            item.setStatus(ImportItemDto.Status.FAILED);
+            job.failedFiles.incrementAndGet();
+        }
+    }
+
+    private void validateManifest(LibraryImportManifest manifest, Path root) {
+        for (MovieImportItem movie : manifest.getMovies()) {
+            validateFiles(root, movie.getFiles());
+        }
+
+        for (SeriesImportItem series : manifest.getSeries()) {
+            validateFiles(root, series.getFiles());
+
+            Set<Integer> seasonNumbers = new HashSet<>();
+            for (SeasonImportItem season : series.getSeasons()) {
+                if (!seasonNumbers.add(season.getSeasonNumber())) {
+                    throw new IllegalArgumentException("Duplicate season " + season.getSeasonNumber() + " in series " + series.getTitle());
+                }
+                validateFiles(root, season.getFiles());
+
+                Set<Integer> episodeNumbers = new HashSet<>();
+                for (EpisodeImportItem episode : season.getEpisodes()) {
+                    if (!episodeNumbers.add(episode.getEpisodeNumber())) {
+                        throw new IllegalArgumentException("Duplicate episode " + episode.getEpisodeNumber()
+                                + " in season " + season.getSeasonNumber() + " of series " + series.getTitle());
+                    }
+                    validateFiles(root, episode.getFiles());
+                }
+            }
+        }
+    }
+
+    private void validateFiles(Path root, Collection<ImportFile> files) {
+        for (ImportFile file : files) {
+            Path path = resolveFile(root, file.getPath());
+            if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+                throw new IllegalArgumentException("Import file not found: " + file.getPath());
+            }
+        }
+    }
+
+    private Path importRoot() {
+        Path root = Path.of(libraryImportProperties.getRoot()).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            throw new IllegalStateException("Library import root does not exist: " + root);
+        }
+        return root;
+    }
+
+    private Path resolveFile(Path root, String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Path is outside of the import root: " + relativePath);
+        }
+        return path;
+    }
+
+    private Path resolveDirectory(Path root, String relativePath) {
+        Path directory = relativePath == null || relativePath.isBlank() ? root : resolveFile(root, relativePath);
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Import directory not found: " + relativePath);
+        }
+        return directory;
+    }
+
+    private String contentType(PendingUpload upload) throws IOException {
+        if (upload.file().getContentType() != null) {
+            return upload.file().getContentType();
+        }
+        String probed = Files.probeContentType(upload.path());
+        return probed != null ? probed : DEFAULT_CONTENT_TYPE;
+    }
+
+    private long fileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read size of " + path, e);
+        }
+    }
+
+    private int countSeasons(List<SeriesImportItem> series) {
+        return series.stream().mapToInt(item -> item.getSeasons().size()).sum();
+    }
+
+    private int countEpisodes(List<SeriesImportItem> series) {
+        return series.stream()
+                .flatMap(item -> item.getSeasons().stream())
+                .mapToInt(season -> season.getEpisodes().size())
+                .sum();
+    }
+
+    private void registerJob(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            if (jobs.size() > libraryImportProperties.getRetainedJobs()) {
+                jobs.values().stream()
+                        .filter(candidate -> candidate.finishedAt != null)
+                        .findFirst()
+                        .ifPresent(finished -> jobs.remove(finished.id));
+            }
+        }
+    }
+
+    private record PendingUpload(ImportItemDto item, ImportFile file, Path path, EntityType ownerType, Long ownerId) {
+    }
+
+    private static final class ImportJob {
+        private final String id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<ImportItemDto> items = new ArrayList<>();
+        private final AtomicInteger completedFiles = new AtomicInteger();
+        private final AtomicInteger failedFiles = new AtomicInteger();
+        private final AtomicLong uploadedBytes = new AtomicLong();
+        private long totalBytes;
+        private int moviesCreated;
+        private int seriesCreated;
+        private int seasonsCreated;
+        private int episodesCreated;
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(String id) {
+            this.id = id;
+        }
+
+        private ImportJobDto toDto() {
+            ImportJobDto.Status status = finishedAt == null ? ImportJobDto.Status.RUNNING
+                    : failedFiles.get() > 0 ? ImportJobDto.Status.COMPLETED_WITH_ERRORS
+                    : ImportJobDto.Status.COMPLETED;
+
+            return ImportJobDto.builder()
+                    .id(id)
+                    .status(status)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .moviesCreated(moviesCreated)
+                    .seriesCreated(seriesCreated)
+                    .seasonsCreated(seasonsCreated)
+                    .episodesCreated(episodesCreated)
+                    .totalFiles(items.size())
+                    .completedFiles(completedFiles.get())
+                    .failedFiles(failedFiles.get())
+                    .totalBytes(totalBytes)
+                    .uploadedBytes(uploadedBytes.get())
+                    .items(List.copyOf(items))
+                    .build();
+        }
+    }
+}
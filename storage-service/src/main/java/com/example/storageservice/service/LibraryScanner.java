@@ -0,0 +1,190 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.dto.LibraryImportManifest;
+import com.example.storageservice.model.dto.LibraryImportManifest.EpisodeImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.ImportFile;
+import com.example.storageservice.model.dto.LibraryImportManifest.MovieImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.SeasonImportItem;
+import com.example.storageservice.model.dto.LibraryImportManifest.SeriesImportItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class LibraryScanner {
+
+    private static final Pattern TITLE_YEAR = Pattern.compile("^(.+?)\\s*\\((\\d{4})\\)$");
+    private static final Pattern SEASON_DIR = Pattern.compile("^(?i)season\\s*(\\d+)$");
+    private static final Pattern EPISODE_FILE = Pattern.compile("(?i)S(\\d+)E(\\d+)(?:\\s*-\\s*(.+))?");
+    private static final Set<String> VIDEO_EXTENSIONS = Set.of("mp4", "mkv", "webm", "mov", "avi", "m4v");
+
+    public LibraryImportManifest scan(Path root, Path directory) {
+        LibraryImportManifest manifest = new LibraryImportManifest();
+
+        Path moviesDir = directory.resolve("movies");
+        if (Files.isDirectory(moviesDir)) {
+            for (Path movieDir : listDirectories(moviesDir)) {
+                manifest.getMovies().add(scanMovie(root, movieDir));
+            }
+        }
+
+        Path seriesDir = directory.resolve("series");
+        if (Files.isDirectory(seriesDir)) {
+            for (Path showDir : listDirectories(seriesDir)) {
+                manifest.getSeries().add(scanSeries(root, showDir));
+            }
+        }
+
+        log.info("Scanned {}: {} movies, {} series", directory, manifest.getMovies().size(), manifest.getSeries().size());
+        return manifest;
+    }
+
+    private MovieImportItem scanMovie(Path root, Path movieDir) {
+        MovieImportItem movie = new MovieImportItem();
+        applyTitleAndYear(movieDir.getFileName().toString(), movie::setTitle, movie::setYear);
+
+        boolean primaryVideo = true;
+        for (Path file : listFiles(movieDir)) {
+            MediaCategory category = artworkCategory(file);
+            if (category == null && isVideo(file)) {
+                category = MediaCategory.VIDEO;
+            }
+            if (category != null) {
+                boolean primary = category != MediaCategory.VIDEO || primaryVideo;
+                if (category == MediaCategory.VIDEO) {
+                    primaryVideo = false;
+                }
+                movie.getFiles().add(importFile(root, file, category, primary));
+            }
+        }
+        return movie;
+    }
+
+    private SeriesImportItem scanSeries(Path root, Path showDir) {
+        SeriesImportItem series = new SeriesImportItem();
+        applyTitleAndYear(showDir.getFileName().toString(), series::setTitle, series::setYear);
+
+        for (Path file : listFiles(showDir)) {
+            MediaCategory category = artworkCategory(file);
+            if (category != null) {
+                series.getFiles().add(importFile(root, file, category, true));
+            }
+        }
+
+        for (Path seasonDir : listDirectories(showDir)) {
+            Matcher matcher = SEASON_DIR.matcher(seasonDir.getFileName().toString());
+            if (matcher.matches()) {
+                series.getSeasons().add(scanSeason(root, seasonDir, Integer.parseInt(matcher.group(1))));
+            }
+        }
+        return series;
+    }
+
+    private SeasonImportItem scanSeason(Path root, Path seasonDir, int seasonNumber) {
+        SeasonImportItem season = new SeasonImportItem();
+        season.setSeasonNumber(seasonNumber);
+        season.setTitle("Season " + seasonNumber);
+
+        TreeMap<Integer, EpisodeImportItem> episodes = new TreeMap<>();
+        for (Path file : listFiles(seasonDir)) {
+            MediaCategory category = artworkCategory(file);
+            if (category != null) {
+                season.getFiles().add(importFile(root, file, category, true));
+                continue;
+            }
+
+            Matcher matcher = EPISODE_FILE.matcher(baseName(file));
+            if (isVideo(file) && matcher.find()) {
+                int episodeNumber = Integer.parseInt(matcher.group(2));
+                EpisodeImportItem episode = episodes.computeIfAbsent(episodeNumber, number -> {
+                    EpisodeImportItem item = new EpisodeImportItem();
+                    item.setEpisodeNumber(number);
+                    item.setTitle(matcher.group(3) != null ? matcher.group(3).trim() : "Episode " + number);
+                    return item;
+                });
+                episode.getFiles().add(importFile(root, file, MediaCategory.VIDEO, episode.getFiles().isEmpty()));
+            }
+        }
+        season.getEpisodes().addAll(episodes.values());
+        return season;
+    }
+
+    private ImportFile importFile(Path root, Path file, MediaCategory category, boolean primary) {
+        return ImportFile.builder()
+                .path(root.relativize(file).toString())
+                .category(category)
+                .primary(primary)
+                .build();
+    }
+
+    private void applyTitleAndYear(String name, Consumer<String> title,
+                                   Consumer<Integer> year) {
+        Matcher matcher = TITLE_YEAR.matcher(name);
+        if (matcher.matches()) {
+            title.accept(matcher.group(1));
+            year.accept(Integer.parseInt(matcher.group(2)));
+        } else {
+            title.accept(name);
+        }
+    }
+
+    private MediaCategory artworkCategory(Path file) {
+        return switch (baseName(file).toLowerCase(Locale.ROOT)) {
+            case "poster", "cover", "folder" -> MediaCategory.POSTER;
+            case "backdrop", "fanart", "background" -> MediaCategory.BACKDROP;
+            case "trailer" -> MediaCategory.TRAILER;
+            case "thumb", "thumbnail" -> MediaCategory.THUMBNAIL;
+            default -> null;
+        };
+    }
+
+    private boolean isVideo(Path file) {
+        return VIDEO_EXTENSIONS.contains(extension(file));
+    }
+
+    private String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private String extension(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private List<Path> listDirectories(Path directory) {
+        return list(directory).stream().filter(Files::isDirectory).toList();
+    }
+
+    private List<Path> listFiles(Path directory) {
+        return list(directory).stream().filter(Files::isRegularFile).toList();
+    }
+
+    private List<Path> list(Path directory) {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                    .filter(path -> !path.getFileName().toString().startsWith("."))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + directory, e);
+        }
+    }
+}
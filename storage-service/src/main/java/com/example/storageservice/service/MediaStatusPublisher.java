@@ -0,0 +1,72 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaFile;
+import com.example.storageservice.model.UploadStatus;
+import com.example.storageservice.model.dto.UploadStatusDto;
+import com.example.storageservice.repository.MediaFileRepository;
+import com.example.storageservice.repository.MediaFileRepository.StatusRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MediaStatusPublisher {
+
+    private final MediaFileRepository mediaFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(MediaFile mediaFile, EntityType entityType, Long entityId) {
+        eventPublisher.publishEvent(MediaStatusEvent.builder()
+                .mediaFileId(mediaFile.getId())
+                .uploadSessionId(mediaFile.getUploadSessionId())
+                .status(mediaFile.getUploadStatus())
+                .entityType(entityType)
+                .entityId(entityId)
+                .fileSize(mediaFile.getFileSize())
+                .build());
+    }
+
+    public void publish(Collection<Long> mediaFileIds) {
+        if (mediaFileIds.isEmpty()) {
+            return;
+        }
+
+        findEvents(mediaFileIds).forEach(eventPublisher::publishEvent);
+    }
+
+    public List<MediaStatusEvent> findEvents(Collection<Long> mediaFileIds) {
+        return mediaFileRepository.findStatusRows(mediaFileIds).stream()
+                .map(this::toEvent)
+                .toList();
+    }
+
+    public UploadStatusDto toStatusDto(MediaStatusEvent event) {
+        return UploadStatusDto.builder()
+                .mediaFileId(event.getMediaFileId())
+                .uploadSessionId(event.getUploadSessionId())
+                .status(event.getStatus())
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .fileSize(event.getFileSize())
+                .progress(event.getProgress())
+                .timestamp(event.getTimestamp())
+                .build();
+    }
+
+    private MediaStatusEvent toEvent(StatusRow row) {
+        return MediaStatusEvent.builder()
+                .mediaFileId(row.getMediaFileId())
+                .uploadSessionId(row.getUploadSessionId())
+                .status(UploadStatus.valueOf(row.getUploadStatus()))
+                .entityType(row.getEntityType() != null ? EntityType.valueOf(row.getEntityType()) : null)
+                .entityId(row.getEntityId())
+                .fileSize(row.getFileSize())
+                .build();
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.storageservice.service;
 
+import com.example.storageservice.event.CatalogChange.Operation;
 import com.example.storageservice.exception.MovieNotFoundException;
+import com.example.storageservice.mapper.MovieMapper;
 import com.example.storageservice.model.Movie;
 import com.example.storageservice.model.QMovie;
 import com.example.storageservice.model.dto.CreateMovieRequest;
+import com.example.storageservice.model.dto.CursorPage;
 import com.example.storageservice.model.dto.MovieDto;
 import com.example.storageservice.model.dto.UpdateMovieRequest;
+import com.example.storageservice.repository.CatalogProjectionRepository;
 import com.example.storageservice.repository.MovieRepository;
+import com.example.storageservice.repository.TableStatisticsRepository;
+import com.example.storageservice.util.CatalogCursor;
+import com.example.storageservice.util.CatalogSort;
+import com.example.storageservice.util.FieldSelection;
 import com.querydsl.core.BooleanBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -18,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -27,29 +35,33 @@ public class MovieService {
 
     private final MovieRepository movieRepository;
     private final FileUploadService fileUploadService;
-    private final ModelMapper modelMapper;
+    private final CatalogReadService catalogReadService;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final MovieMapper movieMapper;
+    private final CatalogChangePublisher catalogChangePublisher;
+    private final CatalogDtoCache catalogDtoCache;
+    private final CatalogProjectionRepository catalogProjectionRepository;
 
     @Transactional(readOnly = true)
-    public Page<MovieDto> getAllMovies(int page, int size, String title, Integer year) {
-        return searchMovies(title, year, null, null, page, size);
+    public Page<MovieDto> getAllMovies(int page, int size, String title, Integer year, String fields, String sort) {
+        return searchMovies(title, year, null, null, page, size, fields, sort);
     }
 
-    @Transactional(readOnly = true)
     public MovieDto getMovieById(Long id) {
         log.debug("Getting movie by ID: {}", id);
-        Movie movie = findMovieById(id);
-        return modelMapper.map(movie, MovieDto.class);
+        return catalogDtoCache.getMovie(id, () -> catalogReadService.toMovieDto(findMovieById(id)));
     }
 
     @Transactional
     public MovieDto createMovie(CreateMovieRequest request) {
         log.info("Creating new movie: {}", request.getTitle());
 
-        Movie movie = modelMapper.map(request, Movie.class);
+        Movie movie = movieMapper.toEntity(request);
         Movie saved = movieRepository.save(movie);
+        catalogChangePublisher.publish(saved, Operation.CREATED);
 
         log.info("Movie created successfully with ID: {}", saved.getId());
-        return modelMapper.map(saved, MovieDto.class);
+        return movieMapper.toDto(saved, new ArrayList<>());
     }
 
     @Transactional
@@ -57,12 +69,13 @@ public class MovieService {
         log.info("Updating movie ID: {}", id);
 
         Movie movie = findMovieById(id);
-        modelMapper.map(request, movie);
+        movieMapper.update(request, movie);
 
         Movie updated = movieRepository.save(movie);
+        catalogChangePublisher.publish(updated, Operation.UPDATED);
         log.info("Movie updated successfully: {}", updated.getTitle());
 
-        return modelMapper.map(updated, MovieDto.class);
+        return catalogReadService.toMovieDto(updated);
     }
 
     @Transactional
@@ -76,6 +89,7 @@ public class MovieService {
                 .toList();
 
         movieRepository.delete(movie);
+        catalogChangePublisher.publish(movie, Operation.DELETED);
 
         movieRepository.flush();
 
@@ -87,11 +101,66 @@ public class MovieService {
     }
 
     @Transactional(readOnly = true)
-    public Page<MovieDto> searchMovies(String title, Integer year, Integer minDuration, Integer maxDuration, int page, int size) {
-        log.debug("Searching movies - title: {}, year: {}", title, year);
+    public Page<MovieDto> searchMovies(String title, Integer year, Integer minDuration, Integer maxDuration, int page, int size,
+                                       String fields, String sort) {
+        log.debug("Searching movies - title: {}, year: {}, fields: {}, sort: {}", title, year, fields, sort);
+
+        PageRequest pageable = PageRequest.of(page, size, CatalogSort.parse(sort).toSort());
+
+        BooleanBuilder builder = moviePredicate(title, year, minDuration, maxDuration);
+
+        FieldSelection selection = FieldSelection.parse(fields, CatalogProjectionRepository.MOVIE_FIELDS,
+                CatalogProjectionRepository.CARD_FIELDS);
+        if (selection != null) {
+            Page<MovieDto> projected = catalogProjectionRepository.findMovies(builder, pageable, selection);
+            if (selection.includes(CatalogProjectionRepository.MEDIA_FILES)) {
+                catalogReadService.attachMovieMedia(projected.getContent());
+            }
+            return projected;
+        }
+
+        Page<Movie> movies = movieRepository.findAll(builder, pageable);
+
+        return catalogReadService.toMovieDtos(movies);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<MovieDto> scrollMovies(String cursor, int size, String title, Integer year) {
+        log.debug("Scrolling movies - cursor: {}, title: {}, year: {}", cursor, title, year);
+
+        QMovie qMovie = QMovie.movie;
+        BooleanBuilder builder = moviePredicate(title, year, null, null);
+        boolean filtered = builder.hasValue();
+
+        if (StringUtils.hasText(cursor)) {
+            CatalogCursor after = CatalogCursor.decode(cursor);
+            builder.and(qMovie.createdAt.lt(after.createdAt())
+                    .or(qMovie.createdAt.eq(after.createdAt()).and(qMovie.id.lt(after.id()))));
+        }
+
+        List<Movie> movies = movieRepository.findBy(builder, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = movies.size() > size;
+        List<Movie> content = hasNext ? movies.subList(0, size) : movies;
+        Movie last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPage.<MovieDto>builder()
+                .content(catalogReadService.toMovieDtos(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new CatalogCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .estimatedTotal(filtered ? null : tableStatisticsRepository.estimateRowCount("movies"))
+                .build();
+    }
 
-        PageRequest pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+    public long getMoviesCount() {
+        return movieRepository.count();
+    }
 
+    private BooleanBuilder moviePredicate(String title, Integer year, Integer minDuration, Integer maxDuration) {
         QMovie qMovie = QMovie.movie;
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -111,13 +180,7 @@ public class MovieService {
             builder.and(qMovie.duration.loe(maxDuration));
         }
 
-        Page<Movie> movies = movieRepository.findAll(builder, pageable);
-
-        return movies.map(movie -> modelMapper.map(movie, MovieDto.class));
-    }
-
-    public long getMoviesCount() {
-        return movieRepository.count();
+        return builder;
     }
 
     private Movie findMovieById(Long id) {
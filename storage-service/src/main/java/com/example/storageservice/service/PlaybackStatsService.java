@@ -0,0 +1,127 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.repository.PlaybackStatsRepository;
+import com.example.storageservice.repository.PlaybackStatsRepository.StatsDelta;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaybackStatsService {
+
+    private static final Comparator<StatsDelta> DELTA_ORDER = Comparator.comparing(StatsDelta::type).thenComparing(StatsDelta::id);
+
+    private final PlaybackStatsRepository playbackStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(EntityType type, Long id, boolean playStart, long bytes) {
+        Counters entry = counters.computeIfAbsent(new Key(type, id), key -> new Counters());
+        if (playStart) {
+            entry.plays.increment();
+        }
+        entry.bytes.add(bytes);
+    }
+
+    @Scheduled(fixedDelayString = "#{@playbackStatsProperties.flushInterval.toMillis()}")
+    public void flush() {
+        List<StatsDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(deltas));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush playback stats for {} titles, retrying on next flush: {}", deltas.size(), e.getMessage());
+            deltas.forEach(this::restore);
+            return;
+        }
+        meterRegistry.timer("storage.playback-stats.flush").record(Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<StatsDelta> drain() {
+        List<StatsDelta> deltas = new ArrayList<>();
+        counters.forEach((key, entry) -> {
+            long plays = entry.plays.sumThenReset();
+            long bytes = entry.bytes.sumThenReset();
+            if (plays > 0 || bytes > 0) {
+                deltas.add(new StatsDelta(key.type(), key.id(), plays, bytes));
+            }
+        });
+        deltas.sort(DELTA_ORDER);
+        return deltas;
+    }
+
+    private void write(List<StatsDelta> deltas) {
+        playbackStatsRepository.addStats(deltas, LocalDateTime.now());
+
+        List<StatsDelta> moviePlays = deltas.stream()
+                .filter(delta -> delta.type() == EntityType.MOVIE && delta.plays() > 0)
+                .toList();
+        List<StatsDelta> episodePlays = deltas.stream()
+                .filter(delta -> delta.type() == EntityType.EPISODE && delta.plays() > 0)
+                .toList();
+        if (!moviePlays.isEmpty()) {
+            playbackStatsRepository.addMoviePlays(moviePlays);
+        }
+        if (!episodePlays.isEmpty()) {
+            addSeriesPlays(episodePlays);
+        }
+    }
+
+    private void addSeriesPlays(List<StatsDelta> episodePlays) {
+        Map<Long, Long> seriesIds = playbackStatsRepository.findSeriesIdsByEpisodeIds(
+                episodePlays.stream().map(StatsDelta::id).toList());
+        SortedMap<Long, Long> playsBySeriesId = new TreeMap<>();
+        episodePlays.forEach(delta -> {
+            Long seriesId = seriesIds.get(delta.id());
+            if (seriesId != null) {
+                playsBySeriesId.merge(seriesId, delta.plays(), Long::sum);
+            }
+        });
+        if (!playsBySeriesId.isEmpty()) {
+            playbackStatsRepository.addSeriesPlays(playsBySeriesId);
+        }
+    }
+
+    private void restore(StatsDelta delta) {
+        Counters entry = counters.computeIfAbsent(new Key(delta.type(), delta.id()), key -> new Counters());
+        entry.plays.add(delta.plays());
+        entry.bytes.add(delta.bytes());
+    }
+
+    private record Key(EntityType type, Long id) {
+    }
+
+    private static class Counters {
+        private final LongAdder plays = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.storageservice.service;
 
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChange.Operation;
 import com.example.storageservice.exception.SeriesNotFoundException;
+import com.example.storageservice.mapper.EpisodeMapper;
+import com.example.storageservice.mapper.SeasonMapper;
+import com.example.storageservice.mapper.SeriesMapper;
 import com.example.storageservice.model.Episode;
 import com.example.storageservice.model.EpisodeMedia;
 import com.example.storageservice.model.QSeries;
@@ -8,33 +13,44 @@ import com.example.storageservice.model.Season;
 import com.example.storageservice.model.SeasonMedia;
 import com.example.storageservice.model.Series;
 import com.example.storageservice.model.SeriesMedia;
+import com.example.storageservice.model.dto.BatchCreateEpisodesRequest;
+import com.example.storageservice.model.dto.BatchCreateResultDto;
+import com.example.storageservice.model.dto.BatchCreateSeasonsRequest;
 import com.example.storageservice.model.dto.CreateEpisodeRequest;
 import com.example.storageservice.model.dto.CreateSeasonRequest;
 import com.example.storageservice.model.dto.CreateSeriesRequest;
+import com.example.storageservice.model.dto.CursorPage;
 import com.example.storageservice.model.dto.EpisodeDto;
 import com.example.storageservice.model.dto.SeasonDto;
 import com.example.storageservice.model.dto.SeriesDto;
 import com.example.storageservice.model.dto.UpdateEpisodeRequest;
 import com.example.storageservice.model.dto.UpdateSeasonRequest;
 import com.example.storageservice.model.dto.UpdateSeriesRequest;
+import com.example.storageservice.repository.CatalogBatchRepository;
+import com.example.storageservice.repository.CatalogProjectionRepository;
 import com.example.storageservice.repository.EpisodeRepository;
 import com.example.storageservice.repository.EpisodesMediaRepository;
 import com.example.storageservice.repository.SeasonRepository;
 import com.example.storageservice.repository.SeasonsMediaRepository;
 import com.example.storageservice.repository.SeriesMediaRepository;
 import com.example.storageservice.repository.SeriesRepository;
+import com.example.storageservice.repository.TableStatisticsRepository;
+import com.example.storageservice.util.CatalogCursor;
+import com.example.storageservice.util.CatalogSort;
+import com.example.storageservice.util.FieldSelection;
 import com.querydsl.core.BooleanBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -49,38 +65,46 @@ public class SeriesService {
     private final SeasonsMediaRepository seasonsMediaRepository;
     private final EpisodesMediaRepository episodesMediaRepository;
     private final FileUploadService fileUploadService;
-    private final ModelMapper modelMapper;
+    private final CatalogReadService catalogReadService;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final CatalogBatchRepository catalogBatchRepository;
+    private final CatalogProjectionRepository catalogProjectionRepository;
+    private final SeriesMapper seriesMapper;
+    private final SeasonMapper seasonMapper;
+    private final EpisodeMapper episodeMapper;
+    private final CatalogChangePublisher catalogChangePublisher;
+    private final CatalogDtoCache catalogDtoCache;
 
     @Transactional(readOnly = true)
-    public Page<SeriesDto> getAllSeries(int page, int size, String title, Integer year) {
-        return searchSeries(title, year, null, null, page, size);
+    public Page<SeriesDto> getAllSeries(int page, int size, String title, Integer year, String fields, String sort) {
+        return searchSeries(title, year, null, null, page, size, fields, sort);
     }
 
-    @Transactional(readOnly = true)
     public SeriesDto getSeriesById(Long id) {
         log.debug("Getting series by ID: {}", id);
-        Series series = findSeriesById(id);
 
-        return modelMapper.map(series, SeriesDto.class);
+        return catalogDtoCache.getSeries(id, () -> catalogReadService.toSeriesDetail(findSeriesById(id)));
     }
 
     @Transactional
     public SeriesDto createSeries(CreateSeriesRequest request) {
         log.info("Creating new series: {}", request.getTitle());
-        Series series = modelMapper.map(request, Series.class);
+        Series series = seriesMapper.toEntity(request);
         Series saved = seriesRepository.save(series);
+        catalogChangePublisher.publish(saved, Operation.CREATED);
 
-        return modelMapper.map(saved, SeriesDto.class);
+        return seriesMapper.toDto(saved, new ArrayList<>(), new ArrayList<>());
     }
 
     @Transactional
     public SeriesDto updateSeries(Long id, UpdateSeriesRequest request) {
         log.info("Updating series ID: {}", id);
         Series series = findSeriesById(id);
-        modelMapper.map(request, series);
+        seriesMapper.update(request, series);
         Series updated = seriesRepository.save(series);
+        catalogChangePublisher.publish(updated, Operation.UPDATED);
 
-        return modelMapper.map(updated, SeriesDto.class);
+        return catalogReadService.toSeriesDetail(updated);
     }
 
     @Transactional
@@ -91,41 +115,40 @@ public class SeriesService {
         List<SeriesMedia> seriesMedia = seriesMediaRepository.findBySeriesId(id);
         seriesMedia.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
 
+        List<CatalogChange> changes = new ArrayList<>();
+        changes.add(catalogChangePublisher.toChange(series, Operation.DELETED));
         for (Season season : series.getSeasons()) {
             List<SeasonMedia> seasonMedia = seasonsMediaRepository.findBySeasonId(season.getId());
             seasonMedia.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
+            changes.add(catalogChangePublisher.toChange(season, Operation.DELETED));
 
             for (Episode episode : season.getEpisodes()) {
                 List<EpisodeMedia> episodeMedia = episodesMediaRepository.findByEpisodeId(episode.getId());
                 episodeMedia.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
+                changes.add(catalogChangePublisher.toChange(episode, id, Operation.DELETED));
             }
         }
 
         seriesRepository.delete(series);
+        catalogChangePublisher.publish(changes);
     }
 
+    @Transactional(readOnly = true)
     public Page<SeasonDto> getSeasonsBySeries(Long seriesId, int page, int size) {
         log.debug("Getting seasons for series ID: {}", seriesId);
-        findSeriesById(seriesId);
-
-        List<Season> seasons = seasonRepository.findBySeriesIdOrderBySeasonNumber(seriesId);
-
-        int start = Math.min(page * size, seasons.size());
-        int end = Math.min((page + 1) * size, seasons.size());
+        if (!seriesRepository.existsById(seriesId)) {
+            throw new SeriesNotFoundException("Series not found with id: " + seriesId);
+        }
 
-        List<SeasonDto> dtos = seasons.subList(start, end).stream()
-                .map(s -> modelMapper.map(s, SeasonDto.class))
-                .toList();
+        Page<Season> seasons = seasonRepository.findBySeriesId(seriesId, PageRequest.of(page, size, Sort.by("seasonNumber")));
 
-        return new PageImpl<>(dtos, PageRequest.of(page, size), seasons.size());
+        return catalogReadService.toSeasonDtos(seasons);
     }
 
-    @Transactional(readOnly = true)
     public SeasonDto getSeasonById(Long seasonId) {
         log.debug("Getting season by ID: {}", seasonId);
-        Season season = findSeasonById(seasonId);
 
-        return modelMapper.map(season, SeasonDto.class);
+        return catalogDtoCache.getSeason(seasonId, () -> catalogReadService.toSeasonDetail(findSeasonById(seasonId)));
     }
 
     @Transactional
@@ -134,20 +157,57 @@ public class SeriesService {
         if (seasonRepository.existsBySeriesIdAndSeasonNumber(request.getSeriesId(), request.getSeasonNumber())) {
             throw new IllegalArgumentException("Season already exists");
         }
-        Season season = modelMapper.map(request, Season.class);
+        Season season = seasonMapper.toEntity(request);
         Season saved = seasonRepository.save(season);
+        catalogChangePublisher.publish(saved, Operation.CREATED);
+
+        return seasonMapper.toDto(saved, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Transactional
+    public BatchCreateResultDto createSeasons(Long seriesId, BatchCreateSeasonsRequest request) {
+        log.info("Creating {} seasons for series {}", request.getSeasons().size(), seriesId);
+        if (!seriesRepository.existsById(seriesId)) {
+            throw new SeriesNotFoundException("Series not found with id: " + seriesId);
+        }
+        List<BatchCreateSeasonsRequest.SeasonItem> items = request.getSeasons();
+        List<Long> ids = catalogBatchRepository.allocateIds("seasons", items.size());
+        List<Season> seasons = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchCreateSeasonsRequest.SeasonItem item = items.get(i);
+            seasons.add(Season.builder()
+                    .id(ids.get(i))
+                    .seriesId(seriesId)
+                    .seasonNumber(item.getSeasonNumber())
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .build());
+        }
 
-        return modelMapper.map(saved, SeasonDto.class);
+        boolean[] inserted = catalogBatchRepository.insertSeasonsSkippingDuplicates(seasons);
+        BatchCreateResultDto result = new BatchCreateResultDto();
+        List<CatalogChange> changes = new ArrayList<>();
+        for (int i = 0; i < seasons.size(); i++) {
+            Season season = seasons.get(i);
+            addBatchItem(result, i, season.getSeasonNumber(), season.getId(), inserted[i]);
+            if (inserted[i]) {
+                changes.add(catalogChangePublisher.toChange(season, Operation.CREATED));
+            }
+        }
+        catalogChangePublisher.publish(changes);
+
+        return result;
     }
 
     @Transactional
     public SeasonDto updateSeason(Long seasonId, UpdateSeasonRequest request) {
         log.info("Updating season ID: {}", seasonId);
         Season season = findSeasonById(seasonId);
-        modelMapper.map(request, season);
+        seasonMapper.update(request, season);
         Season updated = seasonRepository.save(season);
+        catalogChangePublisher.publish(updated, Operation.UPDATED);
 
-        return modelMapper.map(updated, SeasonDto.class);
+        return catalogReadService.toSeasonDetail(updated);
     }
 
     @Transactional
@@ -158,34 +218,43 @@ public class SeriesService {
         List<SeasonMedia> seasonMedia = seasonsMediaRepository.findBySeasonId(seasonId);
         seasonMedia.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
 
+        List<CatalogChange> changes = new ArrayList<>();
+        changes.add(catalogChangePublisher.toChange(season, Operation.DELETED));
         for (Episode episode : season.getEpisodes()) {
             List<EpisodeMedia> episodeMedia = episodesMediaRepository.findByEpisodeId(episode.getId());
             episodeMedia.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
+            changes.add(catalogChangePublisher.toChange(episode, season.getSeriesId(), Operation.DELETED));
         }
 
         seasonRepository.delete(season);
+        catalogChangePublisher.publish(changes);
     }
 
+    @Transactional(readOnly = true)
     public Page<EpisodeDto> getEpisodesBySeason(Long seasonId, int page, int size) {
         log.debug("Getting episodes for season ID: {}", seasonId);
-        findSeasonById(seasonId);
-        List<Episode> episodes = episodeRepository.findBySeasonIdOrderByEpisodeNumber(seasonId);
+        requireSeason(seasonId);
 
-        int start = Math.min(page * size, episodes.size());
-        int end = Math.min((page + 1) * size, episodes.size());
+        Page<Episode> episodes = episodeRepository.findBySeasonId(seasonId, PageRequest.of(page, size, Sort.by("episodeNumber")));
 
-        List<EpisodeDto> dtos = episodes.subList(start, end).stream()
-                .map(e -> modelMapper.map(e, EpisodeDto.class))
-                .toList();
-
-        return new PageImpl<>(dtos, PageRequest.of(page, size), episodes.size());
+        return catalogReadService.toEpisodeDtos(episodes);
     }
 
     @Transactional(readOnly = true)
+    public Slice<EpisodeDto> getEpisodesBySeasonAfter(Long seasonId, int afterEpisodeNumber, int size) {
+        log.debug("Getting episodes for season ID: {} after episode {}", seasonId, afterEpisodeNumber);
+        requireSeason(seasonId);
+
+        Slice<Episode> episodes = episodeRepository.findBySeasonIdAndEpisodeNumberGreaterThan(
+                seasonId, afterEpisodeNumber, PageRequest.of(0, size, Sort.by("episodeNumber")));
+
+        return new SliceImpl<>(catalogReadService.toEpisodeDtos(episodes.getContent()), episodes.getPageable(), episodes.hasNext());
+    }
+
     public EpisodeDto getEpisodeById(Long episodeId) {
         log.debug("Getting episode by ID: {}", episodeId);
 
-        return modelMapper.map(findEpisodeById(episodeId), EpisodeDto.class);
+        return catalogDtoCache.getEpisode(episodeId, () -> catalogReadService.toEpisodeDto(findEpisodeById(episodeId)));
     }
 
     @Transactional
@@ -194,20 +263,57 @@ public class SeriesService {
         if (episodeRepository.existsBySeasonIdAndEpisodeNumber(request.getSeasonId(), request.getEpisodeNumber())) {
             throw new IllegalArgumentException("Episode already exists");
         }
-        Episode episode = modelMapper.map(request, Episode.class);
+        Episode episode = episodeMapper.toEntity(request);
         Episode saved = episodeRepository.save(episode);
+        catalogChangePublisher.publish(saved, Operation.CREATED);
 
-        return modelMapper.map(saved, EpisodeDto.class);
+        return episodeMapper.toDto(saved, new ArrayList<>());
+    }
+
+    @Transactional
+    public BatchCreateResultDto createEpisodes(Long seasonId, BatchCreateEpisodesRequest request) {
+        log.info("Creating {} episodes for season {}", request.getEpisodes().size(), seasonId);
+        Long seriesId = seasonRepository.findSeriesIdById(seasonId)
+                .orElseThrow(() -> new SeriesNotFoundException("Season not found with id: " + seasonId));
+        List<BatchCreateEpisodesRequest.EpisodeItem> items = request.getEpisodes();
+        List<Long> ids = catalogBatchRepository.allocateIds("episodes", items.size());
+        List<Episode> episodes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchCreateEpisodesRequest.EpisodeItem item = items.get(i);
+            episodes.add(Episode.builder()
+                    .id(ids.get(i))
+                    .seasonId(seasonId)
+                    .episodeNumber(item.getEpisodeNumber())
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .duration(item.getDuration())
+                    .build());
+        }
+
+        boolean[] inserted = catalogBatchRepository.insertEpisodesSkippingDuplicates(episodes);
+        BatchCreateResultDto result = new BatchCreateResultDto();
+        List<CatalogChange> changes = new ArrayList<>();
+        for (int i = 0; i < episodes.size(); i++) {
+            Episode episode = episodes.get(i);
+            addBatchItem(result, i, episode.getEpisodeNumber(), episode.getId(), inserted[i]);
+            if (inserted[i]) {
+                changes.add(catalogChangePublisher.toChange(episode, seriesId, Operation.CREATED));
+            }
+        }
+        catalogChangePublisher.publish(changes);
+
+        return result;
     }
 
     @Transactional
     public EpisodeDto updateEpisode(Long episodeId, UpdateEpisodeRequest request) {
         log.info("Updating episode ID: {}", episodeId);
         Episode episode = findEpisodeById(episodeId);
-        modelMapper.map(request, episode);
+        episodeMapper.update(request, episode);
         Episode updated = episodeRepository.save(episode);
+        catalogChangePublisher.publish(updated, Operation.UPDATED);
 
-        return modelMapper.map(updated, EpisodeDto.class);
+        return catalogReadService.toEpisodeDto(updated);
     }
 
     @Transactional
@@ -216,39 +322,105 @@ public class SeriesService {
         Episode episode = findEpisodeById(episodeId);
         List<EpisodeMedia> media = episodesMediaRepository.findByEpisodeId(episodeId);
         media.forEach(m -> fileUploadService.deleteFile(m.getMediaFile().getId()));
+        catalogChangePublisher.publish(episode, Operation.DELETED);
         episodeRepository.delete(episode);
     }
 
-    public Page<SeriesDto> searchSeries(String title, Integer year, Integer minSeasons, Integer maxSeasons, int page, int size) {
-        log.debug("Searching series - title: {}, year: {}, minSeasons: {}, maxSeasons: {}", title, year, minSeasons, maxSeasons);
+    @Transactional(readOnly = true)
+    public Page<SeriesDto> searchSeries(String title, Integer year, Integer minSeasons, Integer maxSeasons, int page, int size,
+                                        String fields, String sort) {
+        log.debug("Searching series - title: {}, year: {}, minSeasons: {}, maxSeasons: {}, fields: {}, sort: {}",
+                title, year, minSeasons, maxSeasons, fields, sort);
 
-        PageRequest pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        PageRequest pageable = PageRequest.of(page, size, CatalogSort.parse(sort).toSort());
 
-        QSeries qSeries = QSeries.series;
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = seriesPredicate(title, year);
 
-        if (StringUtils.hasText(title)) {
-            builder.and(qSeries.title.containsIgnoreCase(title));
-        }
-
-        if (year != null) {
-            builder.and(qSeries.year.eq(year));
+        FieldSelection selection = FieldSelection.parse(fields, CatalogProjectionRepository.SERIES_FIELDS,
+                CatalogProjectionRepository.CARD_FIELDS);
+        if (selection != null) {
+            Page<SeriesDto> projected = catalogProjectionRepository.findSeries(builder, pageable, selection);
+            if (selection.includes(CatalogProjectionRepository.MEDIA_FILES)) {
+                catalogReadService.attachSeriesMedia(projected.getContent());
+            }
+            return projected;
         }
 
         Page<Series> series = seriesRepository.findAll(builder, pageable);
 
-        return series.map(s -> modelMapper.map(s, SeriesDto.class));
+        return catalogReadService.toSeriesDtos(series);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SeriesDto> scrollSeries(String cursor, int size, String title, Integer year) {
+        log.debug("Scrolling series - cursor: {}, title: {}, year: {}", cursor, title, year);
+
+        QSeries qSeries = QSeries.series;
+        BooleanBuilder builder = seriesPredicate(title, year);
+        boolean filtered = builder.hasValue();
+
+        if (StringUtils.hasText(cursor)) {
+            CatalogCursor after = CatalogCursor.decode(cursor);
+            builder.and(qSeries.createdAt.lt(after.createdAt())
+                    .or(qSeries.createdAt.eq(after.createdAt()).and(qSeries.id.lt(after.id()))));
+        }
+
+        List<Series> series = seriesRepository.findBy(builder, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = series.size() > size;
+        List<Series> content = hasNext ? series.subList(0, size) : series;
+        Series last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPage.<SeriesDto>builder()
+                .content(catalogReadService.toSeriesDtos(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new CatalogCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .estimatedTotal(filtered ? null : tableStatisticsRepository.estimateRowCount("series"))
+                .build();
     }
 
     public long getSeriesCount() {
         return seriesRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public Page<EpisodeDto> getAllEpisodesBySeries(Long seriesId, int page, int size) {
         log.debug("Getting all episodes for series ID: {}", seriesId);
 
-        return episodeRepository.findBySeriesId(seriesId, PageRequest.of(page, size))
-                .map(e -> modelMapper.map(e, EpisodeDto.class));
+        return catalogReadService.toEpisodeDtos(episodeRepository.findBySeriesId(seriesId, PageRequest.of(page, size)));
+    }
+
+    private BooleanBuilder seriesPredicate(String title, Integer year) {
+        QSeries qSeries = QSeries.series;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (StringUtils.hasText(title)) {
+            builder.and(qSeries.title.containsIgnoreCase(title));
+        }
+
+        if (year != null) {
+            builder.and(qSeries.year.eq(year));
+        }
+
+        return builder;
+    }
+
+    private void addBatchItem(BatchCreateResultDto result, int index, Integer number, Long id, boolean inserted) {
+        result.getItems().add(BatchCreateResultDto.Item.builder()
+                .index(index)
+                .number(number)
+                .id(inserted ? id : null)
+                .status(inserted ? BatchCreateResultDto.Status.CREATED : BatchCreateResultDto.Status.DUPLICATE)
+                .build());
+        if (inserted) {
+            result.setCreated(result.getCreated() + 1);
+        } else {
+            result.setDuplicates(result.getDuplicates() + 1);
+        }
     }
 
     private Series findSeriesById(Long id) {
@@ -256,6 +428,12 @@ public class SeriesService {
                 .orElseThrow(() -> new SeriesNotFoundException("Series not found with id: " + id));
     }
 
+    private void requireSeason(Long id) {
+        if (!seasonRepository.existsById(id)) {
+            throw new SeriesNotFoundException("Season not found with id: " + id);
+        }
+    }
+
     private Season findSeasonById(Long id) {
         return seasonRepository.findById(id)
                 .orElseThrow(() -> new SeriesNotFoundException("Season not found with id: " + id));
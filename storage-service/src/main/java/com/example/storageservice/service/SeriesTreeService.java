@@ -0,0 +1,187 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.exception.SeriesNotFoundException;
+import com.example.storageservice.model.Episode;
+import com.example.storageservice.model.Season;
+import com.example.storageservice.model.Series;
+import com.example.storageservice.model.dto.SeriesTreeDto;
+import com.example.storageservice.repository.EpisodeRepository;
+import com.example.storageservice.repository.EpisodesMediaRepository;
+import com.example.storageservice.repository.MediaLinkRow;
+import com.example.storageservice.repository.SeasonRepository;
+import com.example.storageservice.repository.SeasonsMediaRepository;
+import com.example.storageservice.repository.SeriesMediaRepository;
+import com.example.storageservice.repository.SeriesRepository;
+import com.example.storageservice.util.DataSourceRoutingContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeriesTreeService {
+
+    private static final int SNAPSHOT_OVERHEAD = 128;
+
+    private final Cache<Long, Snapshot> seriesTreeCaffeineCache;
+    private final PlatformTransactionManager transactionManager;
+    private final SeriesRepository seriesRepository;
+    private final SeasonRepository seasonRepository;
+    private final EpisodeRepository episodeRepository;
+    private final SeriesMediaRepository seriesMediaRepository;
+    private final SeasonsMediaRepository seasonsMediaRepository;
+    private final EpisodesMediaRepository episodesMediaRepository;
+    private final ObjectMapper objectMapper;
+
+    public Snapshot getTree(Long seriesId) {
+        return seriesTreeCaffeineCache.get(seriesId, id -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            SeriesTreeDto tree = DataSourceRoutingContext.onPrimary(() -> readOnly.execute(status -> buildTree(id)));
+            return serialize(tree);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent event) {
+        for (CatalogChange change : event.getChanges()) {
+            if (change.getSeriesId() != null) {
+                seriesTreeCaffeineCache.invalidate(change.getSeriesId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        if (event.getEntityType() == null || event.getEntityId() == null) {
+            return;
+        }
+
+        switch (event.getEntityType()) {
+            case SERIES -> seriesTreeCaffeineCache.invalidate(event.getEntityId());
+            case SEASON -> invalidateSeriesOfSeason(event.getEntityId());
+            case EPISODE -> episodeRepository.findSeasonIdById(event.getEntityId()).ifPresent(this::invalidateSeriesOfSeason);
+            default -> {
+            }
+        }
+    }
+
+    @EventListener
+    public void onCacheFlush(CacheFlushEvent event) {
+        seriesTreeCaffeineCache.invalidateAll();
+    }
+
+    private SeriesTreeDto buildTree(Long seriesId) {
+        Series series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new SeriesNotFoundException("Series not found with id: " + seriesId));
+        List<Season> seasons = seasonRepository.findBySeriesIdOrderBySeasonNumber(seriesId);
+        List<Episode> episodes = episodeRepository.findBySeriesId(seriesId);
+
+        Map<Long, List<SeriesTreeDto.MediaRef>> seriesMedia = primaryMedia(seriesMediaRepository.findMediaBySeriesIds(List.of(seriesId)));
+        Map<Long, List<SeriesTreeDto.MediaRef>> seasonMedia = seasons.isEmpty()
+                ? Map.of()
+                : primaryMedia(seasonsMediaRepository.findMediaBySeasonIds(seasons.stream().map(Season::getId).toList()));
+        Map<Long, List<SeriesTreeDto.MediaRef>> episodeMedia = episodes.isEmpty()
+                ? Map.of()
+                : primaryMedia(episodesMediaRepository.findPrimaryMediaBySeriesId(seriesId));
+
+        Map<Long, SeriesTreeDto.SeasonNode> seasonNodes = new HashMap<>();
+        List<SeriesTreeDto.SeasonNode> seasonList = new ArrayList<>(seasons.size());
+        for (Season season : seasons) {
+            SeriesTreeDto.SeasonNode node = SeriesTreeDto.SeasonNode.builder()
+                    .id(season.getId())
+                    .seasonNumber(season.getSeasonNumber())
+                    .title(season.getTitle())
+                    .description(season.getDescription())
+                    .totalEpisodes(valueOrZero(season.getEpisodeCount()))
+                    .totalDuration(valueOrZero(season.getTotalDuration()))
+                    .media(mediaOf(seasonMedia, season.getId()))
+                    .build();
+            seasonNodes.put(season.getId(), node);
+            seasonList.add(node);
+        }
+        for (Episode episode : episodes) {
+            SeriesTreeDto.SeasonNode season = seasonNodes.get(episode.getSeasonId());
+            if (season != null) {
+                season.getEpisodes().add(SeriesTreeDto.EpisodeNode.builder()
+                        .id(episode.getId())
+                        .episodeNumber(episode.getEpisodeNumber())
+                        .title(episode.getTitle())
+                        .description(episode.getDescription())
+                        .duration(episode.getDuration())
+                        .media(mediaOf(episodeMedia, episode.getId()))
+                        .build());
+            }
+        }
+
+        return SeriesTreeDto.builder()
+                .id(series.getId())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .year(series.getYear())
+                .totalSeasons(valueOrZero(series.getSeasonCount()))
+                .totalEpisodes(valueOrZero(series.getEpisodeCount()))
+                .totalDuration(valueOrZero(series.getTotalDuration()))
+                .media(mediaOf(seriesMedia, series.getId()))
+                .seasons(seasonList)
+                .build();
+    }
+
+    private Snapshot serialize(SeriesTreeDto tree) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(tree);
+            return new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize series tree " + tree.getId(), e);
+        }
+    }
+
+    private Map<Long, List<SeriesTreeDto.MediaRef>> primaryMedia(List<MediaLinkRow> rows) {
+        return rows.stream()
+                .filter(MediaLinkRow::getIsPrimary)
+                .collect(Collectors.groupingBy(MediaLinkRow::getOwnerId, Collectors.mapping(row -> SeriesTreeDto.MediaRef.builder()
+                        .id(row.getId())
+                        .category(row.getCategory())
+                        .contentType(row.getContentType())
+                        .uploadStatus(row.getUploadStatus())
+                        .build(), Collectors.toList())));
+    }
+
+    private List<SeriesTreeDto.MediaRef> mediaOf(Map<Long, List<SeriesTreeDto.MediaRef>> media, Long ownerId) {
+        return media.getOrDefault(ownerId, new ArrayList<>());
+    }
+
+    private void invalidateSeriesOfSeason(Long seasonId) {
+        seasonRepository.findSeriesIdById(seasonId).ifPresent(seriesTreeCaffeineCache::invalidate);
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    public record Snapshot(byte[] body, String etag) {
+
+        public int weight() {
+            return SNAPSHOT_OVERHEAD + body.length;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.OutboxProperties;
+import com.example.storageservice.model.StorageOutboxEntry;
+import com.example.storageservice.repository.StorageOutboxRepository;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageOutboxService {
+
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final MinioClient minioClient;
+    private final OutboxProperties outboxProperties;
+    private final StorageOutboxRepository storageOutboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueObjectRemoval(String bucket, String objectKey) {
+        StorageOutboxEntry entry = StorageOutboxEntry.builder()
+                .minioBucket(bucket)
+                .minioObjectKey(objectKey)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        storageOutboxRepository.save(entry);
+        log.debug("Object removal queued: {}/{}", bucket, objectKey);
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    @Transactional
+    public void relayObjectRemovals() {
+        List<StorageOutboxEntry> due = storageOutboxRepository.lockDueEntries(LocalDateTime.now(), outboxProperties.getBatchSize());
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<StorageOutboxEntry>> byBucket = due.stream()
+                .collect(Collectors.groupingBy(StorageOutboxEntry::getMinioBucket));
+
+        byBucket.forEach(this::removeObjects);
+    }
+
+    private void removeObjects(String bucket, List<StorageOutboxEntry> entries) {
+        List<DeleteObject> objects = entries.stream()
+                .map(entry -> new DeleteObject(entry.getMinioObjectKey()))
+                .toList();
+
+        Map<String, String> errors = new HashMap<>();
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(bucket)
+                            .objects(objects)
+                            .build());
+
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                errors.put(error.objectName(), error.code() + ": " + error.message());
+            }
+        } catch (Exception e) {
+            log.warn("Batch removal of {} objects from bucket {} failed: {}", entries.size(), bucket, e.getMessage());
+            entries.forEach(entry -> scheduleRetry(entry, e.getMessage()));
+            return;
+        }
+
+        List<StorageOutboxEntry> removed = new ArrayList<>();
+        for (StorageOutboxEntry entry : entries) {
+            String error = errors.get(entry.getMinioObjectKey());
+            if (error == null) {
+                removed.add(entry);
+            } else {
+                scheduleRetry(entry, error);
+            }
+        }
+
+        storageOutboxRepository.deleteAllInBatch(removed);
+
+        log.info("Removed {} objects from bucket {}, {} scheduled for retry", removed.size(), bucket, entries.size() - removed.size());
+    }
+
+    private void scheduleRetry(StorageOutboxEntry entry, String error) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setLastError(error);
+        entry.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+        storageOutboxRepository.save(entry);
+
+        if (attempts % 10 == 0) {
+            log.error("Object {}/{} still not removed after {} attempts: {}",
+                    entry.getMinioBucket(), entry.getMinioObjectKey(), attempts, error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, MAX_BACKOFF_EXPONENT);
+        Duration delay = outboxProperties.getInitialBackoff().multipliedBy(1L << exponent);
+
+        return delay.compareTo(outboxProperties.getMaxBackoff()) > 0 ? outboxProperties.getMaxBackoff() : delay;
+    }
+}
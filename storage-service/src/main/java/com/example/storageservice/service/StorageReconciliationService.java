@@ -0,0 +1,271 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.MinioProperties;
+import com.example.storageservice.config.ReconciliationProperties;
+import com.example.storageservice.model.UploadStatus;
+import com.example.storageservice.model.dto.ReconciliationReport;
+import com.example.storageservice.repository.MediaFileRepository;
+import com.example.storageservice.repository.MediaFileRepository.ObjectRow;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageReconciliationService {
+
+    private final MinioClient minioClient;
+    private final MinioProperties minioProperties;
+    private final ReconciliationProperties reconciliationProperties;
+    private final MediaFileRepository mediaFileRepository;
+    private final StorageOutboxService storageOutboxService;
+    private final MediaStatusPublisher mediaStatusPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCoordinator jobCoordinator;
+
+    @Scheduled(cron = "${storage.reconciliation.cron:-}")
+    public void scheduledReconciliation() {
+        jobCoordinator.run("storage-reconciliation", reconciliationProperties.getMinimumSpacing(),
+                context -> reconcile(false, context.checkpoint(), context::saveCheckpoint));
+    }
+
+    public ReconciliationReport reconcile(boolean repair) {
+        return reconcile(repair, null, key -> {
+        });
+    }
+
+    private ReconciliationReport reconcile(boolean repair, String resumeAfter, Consumer<String> checkpoints) {
+        String bucket = minioProperties.getBucket();
+        ZonedDateTime graceThreshold = ZonedDateTime.now().minus(reconciliationProperties.getOrphanGracePeriod());
+        LocalDateTime rowGraceThreshold = graceThreshold.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+
+        ReconciliationReport report = ReconciliationReport.builder()
+                .bucket(bucket)
+                .repair(repair)
+                .startedAt(LocalDateTime.now())
+                .build();
+        PendingRepairs repairs = new PendingRepairs(bucket, report, repair, rowGraceThreshold);
+
+        if (resumeAfter == null) {
+            log.info("Starting storage reconciliation for bucket {} (repair: {})", bucket, repair);
+        } else {
+            log.info("Resuming storage reconciliation for bucket {} after key {} (repair: {})", bucket, resumeAfter, repair);
+        }
+
+        ListObjectsArgs.Builder listArgs = ListObjectsArgs.builder()
+                .bucket(bucket)
+                .recursive(true)
+                .maxKeys(reconciliationProperties.getPageSize());
+        if (resumeAfter != null) {
+            listArgs.startAfter(resumeAfter);
+        }
+        Iterator<Result<Item>> objects = minioClient.listObjects(listArgs.build()).iterator();
+        RowCursor rows = new RowCursor(bucket, resumeAfter);
+
+        Item object = nextObject(objects, report);
+        ObjectRow row = rows.next(report);
+        String processedKey = null;
+        long steps = 0;
+
+        while (object != null || row != null) {
+            int comparison = object == null ? 1 : row == null ? -1 : compareKeys(object.objectName(), row.getObjectKey());
+            processedKey = comparison > 0 ? row.getObjectKey() : object.objectName();
+
+            if (comparison < 0) {
+                if (object.lastModified().isBefore(graceThreshold)) {
+                    report.setOrphanedObjects(report.getOrphanedObjects() + 1);
+                    sample(report.getOrphanedObjectKeys(), object.objectName());
+                    repairs.orphan(object.objectName());
+                }
+                object = nextObject(objects, report);
+            } else if (comparison > 0) {
+                if (UploadStatus.COMPLETED.name().equals(row.getUploadStatus()) && row.getUpdatedAt().isBefore(rowGraceThreshold)) {
+                    report.setMissingObjects(report.getMissingObjects() + 1);
+                    sample(report.getMissingObjectMediaIds(), row.getId());
+                    repairs.missing(row.getId());
+                }
+                row = rows.next(report);
+            } else {
+                compareMatched(object, row, graceThreshold, report, repairs);
+                object = nextObject(objects, report);
+                row = rows.next(report);
+            }
+
+            if (repairs.size() >= reconciliationProperties.getPageSize()) {
+                repairs.flush();
+            }
+            if (++steps % reconciliationProperties.getPageSize() == 0) {
+                repairs.flush();
+                checkpoints.accept(processedKey);
+            }
+        }
+
+        repairs.flush();
+
+        report.setFinishedAt(LocalDateTime.now());
+        log.info("Storage reconciliation finished: {} objects, {} rows, {} orphaned, {} missing, {} size mismatches, {} unconfirmed, {} repaired",
+                report.getObjectsScanned(), report.getRowsScanned(), report.getOrphanedObjects(), report.getMissingObjects(),
+                report.getSizeMismatches(), report.getUnconfirmedUploads(), report.getRepaired());
+
+        return report;
+    }
+
+    private void compareMatched(Item object, ObjectRow row, ZonedDateTime graceThreshold,
+                                ReconciliationReport report, PendingRepairs repairs) {
+        String status = row.getUploadStatus();
+
+        if (UploadStatus.COMPLETED.name().equals(status)) {
+            if (row.getFileSize() == null || row.getFileSize() != object.size()) {
+                report.setSizeMismatches(report.getSizeMismatches() + 1);
+                sample(report.getSizeMismatchMediaIds(), row.getId());
+                repairs.size(row.getId(), object.size());
+            }
+        } else if (!UploadStatus.FAILED.name().equals(status) && object.lastModified().isBefore(graceThreshold)) {
+            report.setUnconfirmedUploads(report.getUnconfirmedUploads() + 1);
+            sample(report.getUnconfirmedUploadMediaIds(), row.getId());
+            repairs.size(row.getId(), object.size());
+        }
+    }
+
+    @SneakyThrows
+    private Item nextObject(Iterator<Result<Item>> objects, ReconciliationReport report) {
+        while (objects.hasNext()) {
+            Item item = objects.next().get();
+            if (!item.isDir()) {
+                report.setObjectsScanned(report.getObjectsScanned() + 1);
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private <T> void sample(List<T> samples, T value) {
+        if (samples.size() < reconciliationProperties.getSampleSize()) {
+            samples.add(value);
+        }
+    }
+
+    static int compareKeys(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int a = left.codePointAt(i);
+            int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    private class RowCursor {
+        private final String bucket;
+        private List<ObjectRow> page = List.of();
+        private int position;
+        private String lastKey;
+        private boolean exhausted;
+
+        RowCursor(String bucket, String startAfter) {
+            this.bucket = bucket;
+            this.lastKey = startAfter != null ? startAfter : "";
+        }
+
+        ObjectRow next(ReconciliationReport report) {
+            if (position >= page.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                page = mediaFileRepository.findObjectPage(bucket, lastKey, reconciliationProperties.getPageSize());
+                position = 0;
+                exhausted = page.size() < reconciliationProperties.getPageSize();
+                if (page.isEmpty()) {
+                    return null;
+                }
+                lastKey = page.get(page.size() - 1).getObjectKey();
+            }
+            report.setRowsScanned(report.getRowsScanned() + 1);
+            return page.get(position++);
+        }
+    }
+
+    private class PendingRepairs {
+        private final String bucket;
+        private final ReconciliationReport report;
+        private final boolean enabled;
+        private final LocalDateTime missingGraceThreshold;
+        private final List<String> orphans = new ArrayList<>();
+        private final List<Long> missing = new ArrayList<>();
+        private final Map<Long, Long> sizes = new LinkedHashMap<>();
+
+        PendingRepairs(String bucket, ReconciliationReport report, boolean enabled, LocalDateTime missingGraceThreshold) {
+            this.bucket = bucket;
+            this.report = report;
+            this.enabled = enabled;
+            this.missingGraceThreshold = missingGraceThreshold;
+        }
+
+        void orphan(String key) {
+            if (enabled) {
+                orphans.add(key);
+            }
+        }
+
+        void missing(Long id) {
+            if (enabled) {
+                missing.add(id);
+            }
+        }
+
+        void size(Long id, long fileSize) {
+            if (enabled) {
+                sizes.put(id, fileSize);
+            }
+        }
+
+        int size() {
+            return orphans.size() + missing.size() + sizes.size();
+        }
+
+        void flush() {
+            if (size() == 0) {
+                return;
+            }
+
+            int failed = transactionTemplate.execute(status -> {
+                orphans.forEach(key -> storageOutboxService.enqueueObjectRemoval(bucket, key));
+                int updated = missing.isEmpty() ? 0 : mediaFileRepository.failMissingObjects(missing, missingGraceThreshold);
+                sizes.forEach((id, fileSize) -> mediaFileRepository.updateStatusAndSize(id, UploadStatus.COMPLETED, fileSize));
+
+                List<Long> changed = new ArrayList<>(missing);
+                changed.addAll(sizes.keySet());
+                mediaStatusPublisher.publish(changed);
+                return updated;
+            });
+
+            report.setRepaired(report.getRepaired() + orphans.size() + failed + sizes.size());
+            orphans.clear();
+            missing.clear();
+            sizes.clear();
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package com.example.storageservice.service;
 
-import com.example.storageservice.model.EpisodeMedia;
+import com.example.storageservice.model.EntityType;
 import com.example.storageservice.model.MediaCategory;
 import com.example.storageservice.model.MediaFile;
-import com.example.storageservice.model.MovieMedia;
-import com.example.storageservice.model.SeriesMedia;
 import com.example.storageservice.model.UploadStatus;
 import com.example.storageservice.repository.EpisodesMediaRepository;
 import com.example.storageservice.repository.MoviesMediaRepository;
@@ -16,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -37,6 +36,7 @@ public class StreamingService {
     private final MoviesMediaRepository moviesMediaRepository;
     private final EpisodesMediaRepository episodesMediaRepository;
     private final SeriesMediaRepository seriesMediaRepository;
+    private final PlaybackStatsService playbackStatsService;
 
     private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
     private static final long DEFAULT_CHUNK_SIZE = 1024 * 1024;
@@ -44,29 +44,23 @@ public class StreamingService {
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> streamMovie(Long movieId, HttpServletRequest request) {
-        Optional<MediaFile> fileOpt = moviesMediaRepository.findByMovieIdAndCategoryAndIsPrimaryTrue(movieId, MediaCategory.VIDEO)
-                .or(() -> moviesMediaRepository.findByMovieIdAndCategory(movieId, MediaCategory.VIDEO))
-                .map(MovieMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = moviesMediaRepository.findPreferredMediaFile(movieId, MediaCategory.VIDEO, Limit.of(1));
 
-        return streamMediaFile(fileOpt, request);
+        return streamMediaFile(EntityType.MOVIE, movieId, fileOpt, request);
     }
 
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> streamEpisode(Long episodeId, HttpServletRequest request) {
-        Optional<MediaFile> fileOpt = episodesMediaRepository.findByEpisodeIdAndCategoryAndIsPrimaryTrue(episodeId, MediaCategory.VIDEO)
-                .or(() -> episodesMediaRepository.findByEpisodeIdAndCategory(episodeId, MediaCategory.VIDEO))
-                .map(EpisodeMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = episodesMediaRepository.findPreferredMediaFile(episodeId, MediaCategory.VIDEO, Limit.of(1));
 
-        return streamMediaFile(fileOpt, request);
+        return streamMediaFile(EntityType.EPISODE, episodeId, fileOpt, request);
     }
 
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> getMovieCover(Long movieId) {
-        Optional<MediaFile> fileOpt = moviesMediaRepository.findByMovieIdAndCategoryAndIsPrimaryTrue(movieId, MediaCategory.POSTER)
-                .or(() -> moviesMediaRepository.findByMovieIdAndCategory(movieId, MediaCategory.POSTER))
-                .map(MovieMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = moviesMediaRepository.findPreferredMediaFile(movieId, MediaCategory.POSTER, Limit.of(1));
 
         return serveStaticFile(fileOpt);
     }
@@ -74,9 +68,7 @@ public class StreamingService {
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> getEpisodeCover(Long episodeId) {
-        Optional<MediaFile> fileOpt = episodesMediaRepository.findByEpisodeIdAndCategoryAndIsPrimaryTrue(episodeId, MediaCategory.POSTER)
-                .or(() -> episodesMediaRepository.findByEpisodeIdAndCategory(episodeId, MediaCategory.POSTER))
-                .map(EpisodeMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = episodesMediaRepository.findPreferredMediaFile(episodeId, MediaCategory.POSTER, Limit.of(1));
 
         return serveStaticFile(fileOpt);
     }
@@ -84,14 +76,13 @@ public class StreamingService {
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> getSeriesCover(Long seriesId) {
-        Optional<MediaFile> fileOpt = seriesMediaRepository.findBySeriesIdAndCategoryAndIsPrimaryTrue(seriesId, MediaCategory.POSTER)
-                .or(() -> seriesMediaRepository.findBySeriesIdAndCategory(seriesId, MediaCategory.POSTER))
-                .map(SeriesMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = seriesMediaRepository.findPreferredMediaFile(seriesId, MediaCategory.POSTER, Limit.of(1));
 
         return serveStaticFile(fileOpt);
     }
 
-    private ResponseEntity<InputStreamResource> streamMediaFile(Optional<MediaFile> fileOpt, HttpServletRequest request) throws Exception {
+    private ResponseEntity<InputStreamResource> streamMediaFile(EntityType type, Long id, Optional<MediaFile> fileOpt,
+                                                                HttpServletRequest request) throws Exception {
         if (isNotPlayable(fileOpt)) {
             log.warn("Video file not found or not completed");
             return ResponseEntity.notFound().build();
@@ -101,7 +92,7 @@ public class StreamingService {
         String rangeHeader = request.getHeader(HttpHeaders.RANGE);
 
         if (rangeHeader == null) {
-            return handleRangeRequest(file, 0, DEFAULT_CHUNK_SIZE - 1);
+            return handleRangeRequest(type, id, file, 0, DEFAULT_CHUNK_SIZE - 1);
         }
 
         Matcher matcher = RANGE_PATTERN.matcher(rangeHeader);
@@ -120,10 +111,10 @@ public class StreamingService {
                 end = Long.parseLong(endStr);
             }
 
-            return handleRangeRequest(file, start, end);
+            return handleRangeRequest(type, id, file, start, end);
         }
 
-        return handleRangeRequest(file, 0, DEFAULT_CHUNK_SIZE - 1);
+        return handleRangeRequest(type, id, file, 0, DEFAULT_CHUNK_SIZE - 1);
     }
 
     private ResponseEntity<InputStreamResource> serveStaticFile(Optional<MediaFile> fileOpt) throws Exception {
@@ -151,7 +142,8 @@ public class StreamingService {
         return fileOpt.isEmpty() || !UploadStatus.COMPLETED.equals(fileOpt.get().getUploadStatus());
     }
 
-    private ResponseEntity<InputStreamResource> handleRangeRequest(MediaFile file, long start, long end) throws Exception {
+    private ResponseEntity<InputStreamResource> handleRangeRequest(EntityType type, Long id, MediaFile file, long start, long end)
+            throws Exception {
         long fileSize = file.getFileSize();
 
         if (start >= fileSize) {
@@ -173,6 +165,7 @@ public class StreamingService {
                         .length(contentLength)
                         .build()
         );
+        playbackStatsService.record(type, id, start == 0, contentLength);
 
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
                 .header(HttpHeaders.CONTENT_TYPE, file.getContentType())
@@ -185,9 +178,7 @@ public class StreamingService {
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> getMovieBackdrop(Long movieId) {
-        Optional<MediaFile> fileOpt = moviesMediaRepository.findByMovieIdAndCategoryAndIsPrimaryTrue(movieId, MediaCategory.BACKDROP)
-                .or(() -> moviesMediaRepository.findByMovieIdAndCategory(movieId, MediaCategory.BACKDROP))
-                .map(MovieMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = moviesMediaRepository.findPreferredMediaFile(movieId, MediaCategory.BACKDROP, Limit.of(1));
 
         return serveStaticFile(fileOpt);
     }
@@ -195,9 +186,7 @@ public class StreamingService {
     @SneakyThrows
     @Transactional(readOnly = true)
     public ResponseEntity<InputStreamResource> getSeriesBackdrop(Long seriesId) {
-        Optional<MediaFile> fileOpt = seriesMediaRepository.findBySeriesIdAndCategoryAndIsPrimaryTrue(seriesId, MediaCategory.BACKDROP)
-                .or(() -> seriesMediaRepository.findBySeriesIdAndCategory(seriesId, MediaCategory.BACKDROP))
-                .map(SeriesMedia::getMediaFile);
+        Optional<MediaFile> fileOpt = seriesMediaRepository.findPreferredMediaFile(seriesId, MediaCategory.BACKDROP, Limit.of(1));
 
         return serveStaticFile(fileOpt);
     }
@@ -0,0 +1,217 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.SuggestProperties;
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.event.CatalogChange;
+import com.example.storageservice.event.CatalogChangeEvent;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.SuggestionDto;
+import com.example.storageservice.repository.CatalogTitleRepository;
+import com.example.storageservice.util.TitlePrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TitleSuggestService {
+
+    private final CatalogTitleRepository catalogTitleRepository;
+    private final SuggestProperties suggestProperties;
+
+    private volatile State state = new State(TitlePrefixIndex.empty(), Map.of());
+    private boolean rebuilding;
+
+    public List<SuggestionDto> suggest(String query, int limit) {
+        String[] tokens = TitlePrefixIndex.tokenize(TitlePrefixIndex.normalize(query));
+        if (tokens.length == 0) {
+            return List.of();
+        }
+
+        State current = state;
+        Map<Long, OverlayEntry> overlay = current.overlay();
+        LongPredicate shadowed = overlay.isEmpty() ? key -> false : overlay::containsKey;
+
+        int[] ordinals = new int[limit];
+        int found = current.index().search(tokens, shadowed, ordinals);
+
+        List<Candidate> candidates = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            int ordinal = ordinals[i];
+            TitlePrefixIndex index = current.index();
+            candidates.add(new Candidate(index.normalizedTitle(ordinal), toDto(index.type(ordinal), index.id(ordinal),
+                    index.title(ordinal), index.seriesId(ordinal), index.seasonId(ordinal))));
+        }
+        for (OverlayEntry entry : overlay.values()) {
+            if (!entry.isDeleted() && TitlePrefixIndex.matchesAll(entry.normalized(), tokens)) {
+                candidates.add(new Candidate(entry.normalized(),
+                        toDto(entry.type(), entry.id(), entry.title(), entry.seriesId(), entry.seasonId())));
+            }
+        }
+
+        if (overlay.isEmpty()) {
+            return candidates.stream().map(Candidate::suggestion).toList();
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparingInt((Candidate candidate) -> candidate.normalized().length())
+                        .thenComparing(Candidate::normalized))
+                .limit(limit)
+                .map(Candidate::suggestion)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, OverlayEntry> applied;
+        synchronized (this) {
+            rebuilding = true;
+            applied = state.overlay();
+        }
+        try {
+            long started = System.nanoTime();
+            TitlePrefixIndex.Builder builder = TitlePrefixIndex.builder();
+            catalogTitleRepository.loadTitles(builder);
+            TitlePrefixIndex index = builder.build();
+
+            synchronized (this) {
+                Map<Long, OverlayEntry> overlay = new HashMap<>(state.overlay());
+                overlay.entrySet().removeIf(entry -> applied.get(entry.getKey()) == entry.getValue());
+                state = new State(index, Map.copyOf(overlay));
+            }
+            log.info("Title suggest index built: {} titles, {} tokens in {} ms",
+                    index.size(), index.tokenCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to build title suggest index", e);
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+            }
+        }
+    }
+
+    @EventListener
+    public void onCacheFlush(CacheFlushEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCatalogChange(CatalogChangeEvent event) {
+        TitlePrefixIndex index = state.index();
+        Map<Long, OverlayEntry> overlay = new HashMap<>(state.overlay());
+
+        for (CatalogChange change : event.getChanges()) {
+            apply(index, overlay, change);
+        }
+
+        state = new State(index, Map.copyOf(overlay));
+        if (overlay.size() >= suggestProperties.getCompactionThreshold()) {
+            compact();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@suggestProperties.compactionInterval.toMillis()}")
+    public synchronized void compact() {
+        State current = state;
+        if (rebuilding || current.overlay().isEmpty()) {
+            return;
+        }
+
+        TitlePrefixIndex index = current.index();
+        TitlePrefixIndex.Builder builder = TitlePrefixIndex.builder();
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            if (!current.overlay().containsKey(index.key(ordinal))) {
+                builder.add(index.type(ordinal), index.id(ordinal), index.title(ordinal),
+                        index.seriesId(ordinal), index.seasonId(ordinal));
+            }
+        }
+        for (OverlayEntry entry : current.overlay().values()) {
+            if (!entry.isDeleted()) {
+                builder.add(entry.type(), entry.id(), entry.title(), entry.seriesId(), entry.seasonId());
+            }
+        }
+
+        state = new State(builder.build(), Map.of());
+        log.debug("Compacted {} pending title changes into the suggest index", current.overlay().size());
+    }
+
+    private void apply(TitlePrefixIndex index, Map<Long, OverlayEntry> overlay, CatalogChange change) {
+        EntityType type = change.getEntityType();
+        long id = change.getEntityId();
+        boolean deleted = change.getOperation() == CatalogChange.Operation.DELETED;
+
+        if (type == EntityType.SEASON) {
+            if (deleted) {
+                removeEpisodes(index, overlay, EntityType.SEASON, id);
+            }
+            return;
+        }
+
+        String normalized = TitlePrefixIndex.normalize(change.getTitle());
+        overlay.put(TitlePrefixIndex.key(type, id), new OverlayEntry(type, id,
+                deleted || normalized.isEmpty() ? null : change.getTitle(), normalized,
+                valueOrZero(change.getSeriesId()), valueOrZero(change.getSeasonId())));
+
+        if (deleted && type == EntityType.SERIES) {
+            removeEpisodes(index, overlay, EntityType.SERIES, id);
+        }
+    }
+
+    private void removeEpisodes(TitlePrefixIndex index, Map<Long, OverlayEntry> overlay, EntityType parentType, long parentId) {
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            if (index.type(ordinal) == EntityType.EPISODE && parentId == parentOf(parentType, index.seriesId(ordinal), index.seasonId(ordinal))) {
+                overlay.put(index.key(ordinal), OverlayEntry.deleted(EntityType.EPISODE, index.id(ordinal)));
+            }
+        }
+        overlay.replaceAll((key, entry) -> entry.type() == EntityType.EPISODE && !entry.isDeleted()
+                && parentId == parentOf(parentType, entry.seriesId(), entry.seasonId())
+                ? OverlayEntry.deleted(EntityType.EPISODE, entry.id())
+                : entry);
+    }
+
+    private long parentOf(EntityType parentType, long seriesId, long seasonId) {
+        return parentType == EntityType.SERIES ? seriesId : seasonId;
+    }
+
+    private long valueOrZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private SuggestionDto toDto(EntityType type, long id, String title, long seriesId, long seasonId) {
+        return SuggestionDto.builder()
+                .type(type)
+                .id(id)
+                .title(title)
+                .seriesId(seriesId != 0 ? seriesId : null)
+                .seasonId(seasonId != 0 ? seasonId : null)
+                .build();
+    }
+
+    private record State(TitlePrefixIndex index, Map<Long, OverlayEntry> overlay) {
+    }
+
+    private record OverlayEntry(EntityType type, long id, String title, String normalized, long seriesId, long seasonId) {
+
+        private static OverlayEntry deleted(EntityType type, long id) {
+            return new OverlayEntry(type, id, null, "", 0, 0);
+        }
+
+        private boolean isDeleted() {
+            return title == null;
+        }
+    }
+
+    private record Candidate(String normalized, SuggestionDto suggestion) {
+    }
+}
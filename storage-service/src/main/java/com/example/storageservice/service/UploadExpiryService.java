@@ -0,0 +1,140 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.UploadExpiryProperties;
+import com.example.storageservice.model.UploadStatus;
+import com.example.storageservice.repository.EpisodesMediaRepository;
+import com.example.storageservice.repository.MediaFileRepository;
+import com.example.storageservice.repository.MediaFileRepository.ExpiredUploadRow;
+import com.example.storageservice.repository.MoviesMediaRepository;
+import com.example.storageservice.repository.SeasonsMediaRepository;
+import com.example.storageservice.repository.SeriesMediaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioAsyncClient;
+import io.minio.messages.ListMultipartUploadsResult;
+import io.minio.messages.Upload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadExpiryService {
+
+    private static final List<String> EXPIRABLE_STATUSES = List.of(UploadStatus.PENDING.name(), UploadStatus.UPLOADING.name());
+    private static final int MULTIPART_LIST_PAGE_SIZE = 1000;
+
+    private final MinioAsyncClient minioAsyncClient;
+    private final UploadExpiryProperties uploadExpiryProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final MediaStatusPublisher mediaStatusPublisher;
+    private final JobCoordinator jobCoordinator;
+
+    private final MediaFileRepository mediaFileRepository;
+    private final MoviesMediaRepository moviesMediaRepository;
+    private final EpisodesMediaRepository episodesMediaRepository;
+    private final SeriesMediaRepository seriesMediaRepository;
+    private final SeasonsMediaRepository seasonsMediaRepository;
+
+    @Scheduled(fixedDelayString = "#{@uploadExpiryProperties.sweepInterval.toMillis()}")
+    public void cleanupExpiredPresignedUrls() {
+        jobCoordinator.run("upload-expiry", uploadExpiryProperties.getSweepInterval(), context -> sweep());
+    }
+
+    private void sweep() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int chunkSize = uploadExpiryProperties.getChunkSize();
+
+        long swept = 0;
+        long aborted = 0;
+        List<ExpiredUploadRow> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> expireChunk(now, chunkSize));
+            swept += chunk.size();
+            aborted += abortMultipartUploads(chunk);
+        } while (chunk.size() == chunkSize);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        meterRegistry.timer("storage.uploads.expiry.duration").record(elapsed);
+        meterRegistry.summary("storage.uploads.expiry.swept").record(swept);
+        meterRegistry.summary("storage.uploads.expiry.multipart.aborted").record(aborted);
+
+        if (swept > 0) {
+            log.info("Expired {} stale uploads and aborted {} multipart uploads in {} ms", swept, aborted, elapsed.toMillis());
+        }
+    }
+
+    private List<ExpiredUploadRow> expireChunk(LocalDateTime now, int chunkSize) {
+        List<ExpiredUploadRow> rows = mediaFileRepository.lockExpiredUploads(EXPIRABLE_STATUSES, now, chunkSize);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        List<Long> ids = rows.stream().map(ExpiredUploadRow::getId).toList();
+
+        mediaFileRepository.expireUploads(ids);
+        mediaStatusPublisher.publish(ids);
+
+        moviesMediaRepository.deleteByMediaFileIds(ids);
+        episodesMediaRepository.deleteByMediaFileIds(ids);
+        seriesMediaRepository.deleteByMediaFileIds(ids);
+        seasonsMediaRepository.deleteByMediaFileIds(ids);
+
+        return rows;
+    }
+
+    private long abortMultipartUploads(List<ExpiredUploadRow> rows) {
+        Map<String, Set<String>> keysByBucket = rows.stream()
+                .collect(Collectors.groupingBy(ExpiredUploadRow::getBucket,
+                        Collectors.mapping(ExpiredUploadRow::getObjectKey, Collectors.toSet())));
+
+        long aborted = 0;
+        for (Map.Entry<String, Set<String>> entry : keysByBucket.entrySet()) {
+            for (String objectKey : entry.getValue()) {
+                try {
+                    aborted += abortMultipartUploads(entry.getKey(), objectKey);
+                } catch (Exception e) {
+                    log.warn("Error aborting multipart uploads for {} in bucket {}: {}", objectKey, entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        return aborted;
+    }
+
+    private long abortMultipartUploads(String bucket, String objectKey) throws Exception {
+        long aborted = 0;
+        String keyMarker = null;
+        String uploadIdMarker = null;
+        ListMultipartUploadsResult result;
+
+        do {
+            result = minioAsyncClient.listMultipartUploadsAsync(bucket, null, null, null, keyMarker,
+                    MULTIPART_LIST_PAGE_SIZE, objectKey, uploadIdMarker, null, null).get().result();
+
+            if (result.uploads() != null) {
+                for (Upload upload : result.uploads()) {
+                    if (objectKey.equals(upload.objectName())) {
+                        minioAsyncClient.abortMultipartUploadAsync(bucket, null, upload.objectName(), upload.uploadId(), null, null).get();
+                        aborted++;
+                    }
+                }
+            }
+
+            keyMarker = result.nextKeyMarker();
+            uploadIdMarker = result.nextUploadIdMarker();
+        } while (result.isTruncated());
+
+        return aborted;
+    }
+}
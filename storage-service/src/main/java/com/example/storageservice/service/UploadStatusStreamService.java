@@ -0,0 +1,136 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.config.UploadEventsProperties;
+import com.example.storageservice.event.MediaStatusEvent;
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.UploadStatusDto;
+import com.example.storageservice.repository.MediaFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadStatusStreamService {
+
+    private static final String STATUS_EVENT = "status";
+
+    private final UploadEventsProperties uploadEventsProperties;
+    private final MediaFileRepository mediaFileRepository;
+    private final MediaStatusPublisher mediaStatusPublisher;
+
+    private final Map<String, Set<SseEmitter>> sessionSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseEmitter>> entitySubscribers = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToSession(String uploadSessionId) {
+        Long mediaFileId = mediaFileRepository.findByUploadSessionId(uploadSessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found: " + uploadSessionId))
+                .getId();
+
+        SseEmitter emitter = register(sessionSubscribers, uploadSessionId);
+        mediaStatusPublisher.findEvents(List.of(mediaFileId)).forEach(event -> send(emitter, mediaStatusPublisher.toStatusDto(event)));
+
+        return emitter;
+    }
+
+    public SseEmitter subscribeToEntity(EntityType entityType, Long entityId) {
+        return register(entitySubscribers, entityKey(entityType, entityId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMediaStatus(MediaStatusEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+
+        UploadStatusDto status = mediaStatusPublisher.toStatusDto(event);
+
+        if (event.getUploadSessionId() != null) {
+            broadcast(sessionSubscribers, event.getUploadSessionId(), status);
+        }
+        if (event.getEntityType() != null) {
+            broadcast(entitySubscribers, entityKey(event.getEntityType(), event.getEntityId()), status);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@uploadEventsProperties.heartbeatInterval.toMillis()}")
+    public void sendHeartbeats() {
+        heartbeat(sessionSubscribers);
+        heartbeat(entitySubscribers);
+    }
+
+    private SseEmitter register(Map<String, Set<SseEmitter>> subscribers, String key) {
+        SseEmitter emitter = new SseEmitter(uploadEventsProperties.getEmitterTimeout().toMillis());
+        subscribers.computeIfAbsent(key, k -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        Runnable remove = () -> unregister(subscribers, key, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        return emitter;
+    }
+
+    private void unregister(Map<String, Set<SseEmitter>> subscribers, String key, SseEmitter emitter) {
+        subscribers.computeIfPresent(key, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void broadcast(Map<String, Set<SseEmitter>> subscribers, String key, UploadStatusDto status) {
+        Set<SseEmitter> emitters = subscribers.get(key);
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, status)) {
+                unregister(subscribers, key, emitter);
+            }
+        }
+    }
+
+    private void heartbeat(Map<String, Set<SseEmitter>> subscribers) {
+        subscribers.forEach((key, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unregister(subscribers, key, emitter);
+                }
+            }
+        });
+    }
+
+    private boolean send(SseEmitter emitter, UploadStatusDto status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .id(status.getMediaFileId() + ":" + status.getStatus())
+                    .data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping upload status subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private String entityKey(EntityType entityType, Long entityId) {
+        return entityType + ":" + entityId;
+    }
+}
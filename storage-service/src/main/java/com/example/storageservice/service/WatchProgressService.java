@@ -0,0 +1,46 @@
+package com.example.storageservice.service;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.dto.WatchProgressDto;
+import com.example.storageservice.repository.WatchProgressRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class WatchProgressService {
+
+    private static final Comparator<WatchProgressDto> ENTRY_ORDER = Comparator.comparing(WatchProgressDto::getUserId)
+            .thenComparing(WatchProgressDto::getContentType)
+            .thenComparing(WatchProgressDto::getContentId);
+
+    private final WatchProgressRepository watchProgressRepository;
+
+    @Transactional
+    public void saveProgress(List<WatchProgressDto> entries) {
+        entries.forEach(entry -> requireTrackable(entry.getContentType()));
+        watchProgressRepository.upsertAll(entries.stream().sorted(ENTRY_ORDER).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<WatchProgressDto> getProgress(String userId, EntityType contentType, Long contentId) {
+        requireTrackable(contentType);
+        return watchProgressRepository.find(userId, contentType, contentId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WatchProgressDto> getRecentProgress(String userId, int limit) {
+        return watchProgressRepository.findRecent(userId, limit);
+    }
+
+    private void requireTrackable(EntityType contentType) {
+        if (contentType != EntityType.MOVIE && contentType != EntityType.EPISODE) {
+            throw new IllegalArgumentException("Watch progress is only tracked for movies and episodes");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.storageservice.util;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+public enum CatalogSort {
+    RECENT(Sort.by(Sort.Direction.DESC, "createdAt")),
+    POPULAR(Sort.by(Sort.Direction.DESC, "playCount", "createdAt"));
+
+    private final Sort sort;
+
+    CatalogSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+
+    public static CatalogSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return RECENT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sort: " + value);
+        }
+    }
+}
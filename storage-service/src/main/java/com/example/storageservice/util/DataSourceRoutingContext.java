@@ -0,0 +1,36 @@
+package com.example.storageservice.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.function.Supplier;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean alreadyRequired = isPrimaryRequired();
+        requirePrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!alreadyRequired) {
+                clear();
+            }
+        }
+    }
+}
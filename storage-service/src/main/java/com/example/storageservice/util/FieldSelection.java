@@ -0,0 +1,39 @@
+package com.example.storageservice.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public record FieldSelection(Set<String> fields) {
+
+    public static final String CARD = "card";
+    public static final String ID = "id";
+
+    public static FieldSelection parse(String value, Set<String> allowed, Set<String> card) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        for (String field : value.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (CARD.equals(name)) {
+                fields.addAll(card);
+            } else if (allowed.contains(name)) {
+                fields.add(name);
+            } else {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+        }
+        return new FieldSelection(Set.copyOf(fields));
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.storageservice.util;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaCategory;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ObjectKeys {
+
+    public static String build(EntityType ownerType, Long ownerId, MediaCategory category, String originalFilename) {
+        return String.format("%ss/%d/%s/%s%s",
+                ownerType.name().toLowerCase(),
+                ownerId,
+                category.name().toLowerCase(),
+                UUID.randomUUID(),
+                extension(originalFilename));
+    }
+
+    private static String extension(String filename) {
+        if (filename != null && filename.contains(".")) {
+            return filename.substring(filename.lastIndexOf("."));
+        }
+        return "";
+    }
+}
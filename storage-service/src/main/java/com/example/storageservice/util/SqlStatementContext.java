@@ -0,0 +1,41 @@
+package com.example.storageservice.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    public static Stats start() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void record(long nanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += nanos;
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static final class Stats {
+        private int statements;
+        private long nanos;
+
+        public int statements() {
+            return statements;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+    }
+}
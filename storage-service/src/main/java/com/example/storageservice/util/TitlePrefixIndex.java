@@ -0,0 +1,297 @@
+package com.example.storageservice.util;
+
+import com.example.storageservice.model.EntityType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+
+public final class TitlePrefixIndex {
+
+    private static final EntityType[] TYPES = EntityType.values();
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final byte[] types;
+    private final long[] ids;
+    private final long[] seriesIds;
+    private final long[] seasonIds;
+    private final String[] titles;
+    private final String[] normalizedTitles;
+
+    private final String[] tokens;
+    private final int[] postingOffsets;
+    private final int[] postings;
+
+    private TitlePrefixIndex(byte[] types, long[] ids, long[] seriesIds, long[] seasonIds, String[] titles,
+                             String[] normalizedTitles, String[] tokens, int[] postingOffsets, int[] postings) {
+        this.types = types;
+        this.ids = ids;
+        this.seriesIds = seriesIds;
+        this.seasonIds = seasonIds;
+        this.titles = titles;
+        this.normalizedTitles = normalizedTitles;
+        this.tokens = tokens;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static TitlePrefixIndex empty() {
+        return builder().build();
+    }
+
+    public static long key(EntityType type, long id) {
+        return ((long) type.ordinal() << 56) | id;
+    }
+
+    public static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(title, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public static String[] tokenize(String normalized) {
+        return normalized.isEmpty() ? NO_TOKENS : normalized.split(" ");
+    }
+
+    public static boolean matchesAll(String normalized, String[] queryTokens) {
+        for (String token : queryTokens) {
+            if (!hasWordPrefix(normalized, token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int tokenCount() {
+        return tokens.length;
+    }
+
+    public EntityType type(int ordinal) {
+        return TYPES[types[ordinal]];
+    }
+
+    public long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    public long key(int ordinal) {
+        return key(type(ordinal), ids[ordinal]);
+    }
+
+    public long seriesId(int ordinal) {
+        return seriesIds[ordinal];
+    }
+
+    public long seasonId(int ordinal) {
+        return seasonIds[ordinal];
+    }
+
+    public String title(int ordinal) {
+        return titles[ordinal];
+    }
+
+    public String normalizedTitle(int ordinal) {
+        return normalizedTitles[ordinal];
+    }
+
+    public int search(String[] queryTokens, LongPredicate excluded, int[] out) {
+        if (queryTokens.length == 0 || out.length == 0 || tokens.length == 0) {
+            return 0;
+        }
+
+        int driver = -1;
+        int driverFrom = 0;
+        int driverTo = 0;
+        int driverPostings = Integer.MAX_VALUE;
+        for (int i = 0; i < queryTokens.length; i++) {
+            int from = lowerBound(queryTokens[i]);
+            int to = lowerBound(queryTokens[i] + Character.MAX_VALUE);
+            int count = postingOffsets[to] - postingOffsets[from];
+            if (count < driverPostings) {
+                driver = i;
+                driverFrom = from;
+                driverTo = to;
+                driverPostings = count;
+            }
+        }
+        if (driverPostings == 0) {
+            return 0;
+        }
+
+        int found = 0;
+        for (int t = driverFrom; t < driverTo; t++) {
+            for (int p = postingOffsets[t]; p < postingOffsets[t + 1]; p++) {
+                int ordinal = postings[p];
+                if (found == out.length && ordinal >= out[found - 1]) {
+                    break;
+                }
+                if (contains(out, found, ordinal)
+                        || !matchesOthers(normalizedTitles[ordinal], queryTokens, driver)
+                        || excluded.test(key(ordinal))) {
+                    continue;
+                }
+                found = insertSorted(out, found, ordinal);
+            }
+        }
+        return found;
+    }
+
+    private boolean matchesOthers(String normalized, String[] queryTokens, int driver) {
+        for (int i = 0; i < queryTokens.length; i++) {
+            if (i != driver && !hasWordPrefix(normalized, queryTokens[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean hasWordPrefix(String normalized, String token) {
+        int from = 0;
+        while (true) {
+            int index = normalized.indexOf(token, from);
+            if (index < 0) {
+                return false;
+            }
+            if (index == 0 || normalized.charAt(index - 1) == ' ') {
+                return true;
+            }
+            from = index + 1;
+        }
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int insertSorted(int[] values, int length, int value) {
+        int position = length == values.length ? length - 1 : length;
+        while (position > 0 && values[position - 1] > value) {
+            values[position] = values[position - 1];
+            position--;
+        }
+        values[position] = value;
+        return Math.min(length + 1, values.length);
+    }
+
+    public static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(EntityType type, long id, String title, long seriesId, long seasonId) {
+            String normalized = normalize(title);
+            if (!normalized.isEmpty()) {
+                entries.add(new Entry(type, id, title, normalized, seriesId, seasonId));
+            }
+            return this;
+        }
+
+        public TitlePrefixIndex build() {
+            entries.sort(Comparator.comparingInt((Entry entry) -> entry.normalized().length())
+                    .thenComparing(Entry::normalized)
+                    .thenComparing(Entry::type)
+                    .thenComparingLong(Entry::id));
+
+            int size = entries.size();
+            byte[] types = new byte[size];
+            long[] ids = new long[size];
+            long[] seriesIds = new long[size];
+            long[] seasonIds = new long[size];
+            String[] titles = new String[size];
+            String[] normalizedTitles = new String[size];
+            Map<String, IntBuffer> tokenPostings = new HashMap<>();
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                Entry entry = entries.get(ordinal);
+                types[ordinal] = (byte) entry.type().ordinal();
+                ids[ordinal] = entry.id();
+                seriesIds[ordinal] = entry.seriesId();
+                seasonIds[ordinal] = entry.seasonId();
+                titles[ordinal] = entry.title();
+                normalizedTitles[ordinal] = entry.normalized();
+
+                for (String token : tokenize(entry.normalized())) {
+                    tokenPostings.computeIfAbsent(token, t -> new IntBuffer()).addUnlessLast(ordinal);
+                }
+            }
+
+            String[] tokens = tokenPostings.keySet().toArray(String[]::new);
+            Arrays.sort(tokens);
+
+            int[] postingOffsets = new int[tokens.length + 1];
+            int total = 0;
+            for (int t = 0; t < tokens.length; t++) {
+                postingOffsets[t] = total;
+                total += tokenPostings.get(tokens[t]).length;
+            }
+            postingOffsets[tokens.length] = total;
+
+            int[] postings = new int[total];
+            for (int t = 0; t < tokens.length; t++) {
+                IntBuffer buffer = tokenPostings.get(tokens[t]);
+                System.arraycopy(buffer.values, 0, postings, postingOffsets[t], buffer.length);
+            }
+
+            return new TitlePrefixIndex(types, ids, seriesIds, seasonIds, titles, normalizedTitles,
+                    tokens, postingOffsets, postings);
+        }
+    }
+
+    private record Entry(EntityType type, long id, String title, String normalized, long seriesId, long seasonId) {
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[2];
+        private int length;
+
+        private void addUnlessLast(int value) {
+            if (length > 0 && values[length - 1] == value) {
+                return;
+            }
+            if (length == values.length) {
+                values = Arrays.copyOf(values, length * 2);
+            }
+            values[length++] = value;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.storageservice;
+
+import com.example.storageservice.model.EntityType;
+import com.example.storageservice.model.MediaCategory;
+import com.example.storageservice.model.UploadStatus;
+import com.example.storageservice.model.dto.CatalogRecord;
+import com.example.storageservice.service.CatalogTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CatalogFixtures {
+
+    static final int MOVIES = 30;
+    static final int SERIES = 30;
+    static final int SEASONS_PER_SERIES = 3;
+    static final int EPISODES_PER_SEASON = 4;
+    static final long LONG_SERIES_ID = 1;
+    static final int LONG_SERIES_SEASONS = 12;
+
+    private final List<CatalogRecord> mediaFiles = new ArrayList<>();
+    private final List<CatalogRecord> mediaLinks = new ArrayList<>();
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private long nextMediaId = 1;
+
+    private CatalogFixtures() {
+    }
+
+    static void seed(CatalogTransferService catalogTransferService, ObjectMapper objectMapper) throws IOException {
+        List<CatalogRecord> records = new CatalogFixtures().records();
+        StringBuilder ndjson = new StringBuilder();
+        for (CatalogRecord record : records) {
+            ndjson.append(objectMapper.writeValueAsString(record)).append('\n');
+        }
+        catalogTransferService.importCatalog(new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<CatalogRecord> records() {
+        List<CatalogRecord> movies = new ArrayList<>();
+        List<CatalogRecord> series = new ArrayList<>();
+        List<CatalogRecord> seasons = new ArrayList<>();
+        List<CatalogRecord> episodes = new ArrayList<>();
+
+        for (long id = 1; id <= MOVIES; id++) {
+            movies.add(CatalogRecord.Movie.builder()
+                    .id(id).title("Movie " + id).year(2000 + (int) (id % 20)).duration(5400)
+                    .createdAt(createdAt.plusMinutes(id)).updatedAt(createdAt.plusMinutes(id))
+                    .build());
+            link(EntityType.MOVIE, id, MediaCategory.POSTER, true);
+            link(EntityType.MOVIE, id, MediaCategory.VIDEO, true);
+        }
+
+        long seasonId = 1;
+        long episodeId = 1;
+        for (long id = 1; id <= SERIES; id++) {
+            series.add(CatalogRecord.Series.builder()
+                    .id(id).title("Series " + id).year(2000 + (int) (id % 20))
+                    .createdAt(createdAt.plusMinutes(id)).updatedAt(createdAt.plusMinutes(id))
+                    .build());
+            link(EntityType.SERIES, id, MediaCategory.POSTER, false);
+
+            int seasonCount = id == LONG_SERIES_ID ? LONG_SERIES_SEASONS : SEASONS_PER_SERIES;
+            for (int seasonNumber = 1; seasonNumber <= seasonCount; seasonNumber++, seasonId++) {
+                seasons.add(CatalogRecord.Season.builder()
+                        .id(seasonId).seriesId(id).seasonNumber(seasonNumber).title("Season " + seasonNumber)
+                        .createdAt(createdAt).updatedAt(createdAt)
+                        .build());
+                link(EntityType.SEASON, seasonId, MediaCategory.POSTER, true);
+
+                for (int episodeNumber = 1; episodeNumber <= EPISODES_PER_SEASON; episodeNumber++, episodeId++) {
+                    episodes.add(CatalogRecord.Episode.builder()
+                            .id(episodeId).seasonId(seasonId).seriesId(id).episodeNumber(episodeNumber)
+                            .title("Episode " + episodeNumber).duration(2700)
+                            .createdAt(createdAt).updatedAt(createdAt)
+                            .build());
+                    link(EntityType.EPISODE, episodeId, MediaCategory.VIDEO, false);
+                }
+            }
+        }
+
+        List<CatalogRecord> records = new ArrayList<>(mediaFiles);
+        records.addAll(movies);
+        records.addAll(series);
+        records.addAll(seasons);
+        records.addAll(episodes);
+        records.addAll(mediaLinks);
+        return records;
+    }
+
+    private void link(EntityType ownerType, long ownerId, MediaCategory category, boolean primary) {
+        long mediaId = nextMediaId++;
+        String key = ownerType.name().toLowerCase() + "/" + ownerId + "/" + category.name().toLowerCase();
+        mediaFiles.add(CatalogRecord.MediaFile.builder()
+                .id(mediaId).originalFilename(key).contentType("application/octet-stream").fileSize(1024L)
+                .bucket("movie-storage").objectKey(key).uploadStatus(UploadStatus.COMPLETED)
+                .createdAt(createdAt).updatedAt(createdAt)
+                .build());
+        mediaLinks.add(CatalogRecord.MediaLink.builder()
+                .id(mediaId).ownerType(ownerType).ownerId(ownerId).mediaFileId(mediaId).category(category).primary(primary)
+                .build());
+    }
+}
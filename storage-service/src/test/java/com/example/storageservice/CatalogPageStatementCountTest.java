@@ -0,0 +1,70 @@
+package com.example.storageservice;
+
+import com.example.storageservice.service.CatalogTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogPageStatementCountTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    void seedCatalog(@Autowired CatalogTransferService catalogTransferService, @Autowired ObjectMapper objectMapper) throws Exception {
+        CatalogFixtures.seed(catalogTransferService, objectMapper);
+    }
+
+    @Test
+    void moviePageRunsPageCountAndMediaQueries() throws Exception {
+        assertThat(statements("/api/movies?size=5")).isEqualTo(3);
+        assertThat(statements("/api/movies?size=20")).isEqualTo(3);
+    }
+
+    @Test
+    void movieSearchPageDoesNotGrowWithPageSize() throws Exception {
+        assertThat(statements("/api/movies/search?title=Movie&size=20"))
+                .isEqualTo(statements("/api/movies/search?title=Movie&size=5"))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void seriesPageReadsCountsFromCounterColumns() throws Exception {
+        assertThat(statements("/api/series?size=5")).isEqualTo(3);
+        assertThat(statements("/api/series?size=20")).isEqualTo(3);
+    }
+
+    @Test
+    void seriesSearchPageDoesNotGrowWithPageSize() throws Exception {
+        assertThat(statements("/api/series/search?title=Series&size=20"))
+                .isEqualTo(statements("/api/series/search?title=Series&size=5"))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void seasonPageRunsExistenceCheckPageCountAndMediaQueries() throws Exception {
+        String seasons = "/api/series/" + CatalogFixtures.LONG_SERIES_ID + "/seasons";
+
+        assertThat(statements(seasons + "?size=2")).isEqualTo(4);
+        assertThat(statements(seasons + "?size=10")).isEqualTo(4);
+    }
+
+    private int statements(String url) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        String header = response.getHeader("X-SQL-Statements");
+        assertThat(header).as("X-SQL-Statements header for %s", url).isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.storageservice;
+
+import com.example.storageservice.annotation.StatementBudget;
+import com.example.storageservice.event.CacheFlushEvent;
+import com.example.storageservice.service.CatalogTransferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest extends EmbeddedPostgresTest {
+
+    private static final Map<String, SampleRequest> SAMPLE_REQUESTS = Map.ofEntries(
+            Map.entry("MovieController#getAllMovies", new SampleRequest("/api/movies?size=20", 200)),
+            Map.entry("MovieController#scrollMovies", new SampleRequest("/api/movies/scroll?size=20", 200)),
+            Map.entry("MovieController#getMovieById", new SampleRequest("/api/movies/1", 200)),
+            Map.entry("SeriesController#getAllSeries", new SampleRequest("/api/series?size=20", 200)),
+            Map.entry("SeriesController#scrollSeries", new SampleRequest("/api/series/scroll?size=20", 200)),
+            Map.entry("SeriesController#getSeriesById", new SampleRequest("/api/series/" + CatalogFixtures.LONG_SERIES_ID, 200)),
+            Map.entry("SeriesController#getSeriesTree", new SampleRequest("/api/series/" + CatalogFixtures.LONG_SERIES_ID + "/tree", 200)),
+            Map.entry("SeriesController#getSeasonsBySeries", new SampleRequest("/api/series/" + CatalogFixtures.LONG_SERIES_ID + "/seasons?size=10", 200)),
+            Map.entry("SeriesController#getSeasonById", new SampleRequest("/api/series/seasons/1", 200)),
+            Map.entry("SeriesController#getEpisodesBySeason", new SampleRequest("/api/series/seasons/1/episodes?size=20", 200)),
+            Map.entry("SeriesController#getEpisodeById", new SampleRequest("/api/series/episodes/1", 200)),
+            Map.entry("SeriesController#getAllEpisodesBySeries", new SampleRequest("/api/series/" + CatalogFixtures.LONG_SERIES_ID + "/episodes?size=20", 200)),
+            Map.entry("StreamingController#streamMovie", new SampleRequest("/api/stream/movies/1", 206)),
+            Map.entry("StreamingController#streamEpisode", new SampleRequest("/api/stream/episodes/1", 206)),
+            Map.entry("StreamingController#getMovieCover", new SampleRequest("/api/stream/movies/1/cover", 200)),
+            Map.entry("StreamingController#getEpisodeCover", new SampleRequest("/api/stream/episodes/1/cover", 404)),
+            Map.entry("StreamingController#getSeriesCover", new SampleRequest("/api/stream/series/1/cover", 200)),
+            Map.entry("StreamingController#getMovieBackdrop", new SampleRequest("/api/stream/movies/1/backdrop", 404)),
+            Map.entry("StreamingController#getSeriesBackdrop", new SampleRequest("/api/stream/series/1/backdrop", 404)));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeAll
+    void seedCatalog(@Autowired CatalogTransferService catalogTransferService, @Autowired ObjectMapper objectMapper) throws Exception {
+        CatalogFixtures.seed(catalogTransferService, objectMapper);
+    }
+
+    @Test
+    void everyBudgetedEndpointHasASampleRequest() {
+        assertThat(SAMPLE_REQUESTS.keySet()).containsExactlyInAnyOrderElementsOf(budgets().keySet());
+    }
+
+    @TestFactory
+    Stream<DynamicTest> endpointsStayWithinTheirStatementBudget() {
+        return budgets().entrySet().stream()
+                .filter(entry -> SAMPLE_REQUESTS.containsKey(entry.getKey()))
+                .map(entry -> DynamicTest.dynamicTest(entry.getKey(),
+                        () -> assertWithinBudget(entry.getKey(), SAMPLE_REQUESTS.get(entry.getKey()), entry.getValue())));
+    }
+
+    private void assertWithinBudget(String handler, SampleRequest sample, int budget) throws Exception {
+        eventPublisher.publishEvent(CacheFlushEvent.builder().reason("statement budget test").build());
+
+        Map<String, Double> before = statementTotals();
+        MvcResult result = mockMvc.perform(get(sample.url())).andReturn();
+        assertThat(result.getHandler()).isInstanceOf(HandlerMethod.class);
+        assertThat(name((HandlerMethod) result.getHandler())).as("handler for %s", sample.url()).isEqualTo(handler);
+        assertThat(result.getResponse().getStatus()).as("status of %s", sample.url()).isEqualTo(sample.status());
+
+        String route = (String) result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        double executed = statementTotals().getOrDefault(route, 0.0) - before.getOrDefault(route, 0.0);
+
+        assertThat((int) executed)
+                .as("%s (%s) executed more SQL statements than its budget", handler, sample.url())
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private Map<String, Double> statementTotals() {
+        return meterRegistry.find("storage.sql.statements").tag("method", "GET").summaries().stream()
+                .collect(Collectors.toMap(summary -> summary.getId().getTag("route"), DistributionSummary::totalAmount));
+    }
+
+    private Map<String, Integer> budgets() {
+        return handlerMapping.getHandlerMethods().values().stream()
+                .filter(method -> method.hasMethodAnnotation(StatementBudget.class))
+                .collect(Collectors.toMap(this::name, method -> method.getMethodAnnotation(StatementBudget.class).value()));
+    }
+
+    private String name(HandlerMethod method) {
+        return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+    }
+
+    private record SampleRequest(String url, int status) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.syncservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "sync.watch-progress")
+@Data
+public class WatchProgressProperties {
+
+    private String storageUrl = "http://localhost:8081/api/progress";
+
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    private int batchSize = 500;
+
+    private int maxDirty = 10000;
+
+    private int maxCached = 50000;
+
+    private Duration cacheTtl = Duration.ofHours(6);
+}
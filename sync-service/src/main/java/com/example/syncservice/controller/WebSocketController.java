@@ -1,5 +1,6 @@
 package com.example.syncservice.controller;
 
+import com.example.syncservice.model.Room;
 import com.example.syncservice.model.User;
 import com.example.syncservice.service.RoomService;
 import lombok.RequiredArgsConstructor;
@@ -116,10 +117,12 @@ public class WebSocketController {
         boolean success = roomService.setRoomEpisode(roomId, seasonId, episodeId, userId);
 
         if (success) {
+            double currentTime = roomService.getRoomById(roomId).map(Room::getCurrentTime).orElse(0.0);
             messagingTemplate.convertAndSend("/topic/room/" + roomId + "/episodeChanged", (Object) Map.of(
                     "action", "episodeChanged",
                     "episodeId", episodeId,
                     "seasonId", seasonId,
+                    "currentTime", currentTime,
                     "userId", userId
             ));
         }
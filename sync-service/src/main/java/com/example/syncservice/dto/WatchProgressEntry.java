@@ -0,0 +1,20 @@
+package com.example.syncservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WatchProgressEntry {
+    private String userId;
+    private String contentType;
+    private Long contentId;
+    private Double position;
+    private LocalDateTime updatedAt;
+}
@@ -4,12 +4,14 @@ import com.example.syncservice.model.Room;
 import com.example.syncservice.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,12 +21,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class RoomService {
 
+    private final WatchProgressService watchProgressService;
+    private final SimpMessagingTemplate messagingTemplate;
+
     private final Map<String, Room> rooms = new ConcurrentHashMap<>();
 
     public Room createMovieRoom(String roomName, Long movieId, String title, String hostId) {
         String roomId = UUID.randomUUID().toString().substring(0, 8);
         Room room = new Room(roomId, roomName, movieId, title, hostId);
         rooms.put(roomId, room);
+        resume(room, hostId);
         log.info("Movie room created: {}", roomId);
         return room;
     }
@@ -33,6 +39,7 @@ public class RoomService {
         String roomId = UUID.randomUUID().toString().substring(0, 8);
         Room room = new Room(roomId, roomName, seriesId, title, seasonId, episodeId, hostId);
         rooms.put(roomId, room);
+        resume(room, hostId);
         log.info("Series room created: {}", roomId);
         return room;
     }
@@ -55,6 +62,9 @@ public class RoomService {
     public boolean joinRoom(String roomId, User user) {
         Room room = rooms.get(roomId);
         if (room != null) {
+            if (user.getId().equals(room.getHostId()) && !room.isPlaying() && room.getCurrentTime() == 0) {
+                resume(room, user.getId());
+            }
             user.setCurrentTime(room.getCurrentTime());
             room.getUsers().remove(user);
             room.addUser(user);
@@ -66,6 +76,10 @@ public class RoomService {
     public boolean leaveRoom(String roomId, String userId) {
         Room room = rooms.get(roomId);
         if (room != null) {
+            room.getUsers().stream()
+                    .filter(user -> user.getId().equals(userId))
+                    .findFirst()
+                    .ifPresent(user -> watchProgressService.record(userId, room, user.getCurrentTime()));
             return room.getUsers().removeIf(user -> user.getId().equals(userId));
         }
         return false;
@@ -90,6 +104,7 @@ public class RoomService {
                         user.setCurrentTime(currentTime);
                         user.setLastSeen(java.time.LocalDateTime.now());
                     });
+            watchProgressService.record(userId, room, currentTime);
 
             if (userId.equals(room.getHostId())) {
                 room.setCurrentTime(currentTime);
@@ -116,6 +131,7 @@ public class RoomService {
         room.setCurrentTime(0.0);
         room.setPlaying(false);
         room.setLastActionUserId(userId);
+        resume(room, userId);
 
         log.info("Room {} switched to episode ID {}", roomId, episodeId);
         return true;
@@ -126,6 +142,32 @@ public class RoomService {
         return room != null && room.getHostId().equals(userId);
     }
 
+    private void resume(Room room, String userId) {
+        Long episodeId = room.getCurrentEpisodeId();
+        watchProgressService.findPosition(userId, room, position -> resumeLate(room, episodeId, userId, position))
+                .ifPresent(position -> applyResume(room, userId, position));
+    }
+
+    private void resumeLate(Room room, Long episodeId, String userId, double position) {
+        if (rooms.get(room.getId()) != room || room.isPlaying() || room.getCurrentTime() != 0
+                || !Objects.equals(episodeId, room.getCurrentEpisodeId())) {
+            return;
+        }
+
+        applyResume(room, userId, position);
+        room.getUsers().forEach(user -> user.setCurrentTime(position));
+        messagingTemplate.convertAndSend("/topic/room/" + room.getId() + "/sync", (Object) Map.of(
+                "action", "seek",
+                "currentTime", position,
+                "userId", userId
+        ));
+    }
+
+    private void applyResume(Room room, String userId, double position) {
+        room.setCurrentTime(position);
+        log.debug("Room {} resumes at {}s from saved progress of {}", room.getId(), position, userId);
+    }
+
     @Scheduled(fixedRate = 300000)
     public void cleanupEmptyRooms() {
         rooms.entrySet().removeIf(entry -> {
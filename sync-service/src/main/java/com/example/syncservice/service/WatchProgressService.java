@@ -0,0 +1,180 @@
+package com.example.syncservice.service;
+
+import com.example.syncservice.config.WatchProgressProperties;
+import com.example.syncservice.dto.WatchProgressEntry;
+import com.example.syncservice.model.Room;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WatchProgressService {
+
+    private final WatchProgressProperties watchProgressProperties;
+    private final RestTemplate restTemplate;
+    private final Executor watchProgressTaskExecutor;
+
+    private final Map<Key, Progress> cache = new ConcurrentHashMap<>();
+    private final Set<Key> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+    private volatile boolean lastFlushFailed;
+
+    public void record(String userId, Room room, double position) {
+        Key key = keyFor(userId, room);
+        if (key == null || position < 0) {
+            return;
+        }
+
+        cache.put(key, new Progress(position, LocalDateTime.now()));
+        dirty.add(key);
+        if (dirty.size() >= watchProgressProperties.getMaxDirty() && !lastFlushFailed
+                && earlyFlushScheduled.compareAndSet(false, true)) {
+            watchProgressTaskExecutor.execute(this::flush);
+        }
+    }
+
+    public Optional<Double> findPosition(String userId, Room room, Consumer<Double> onLoaded) {
+        Key key = keyFor(userId, room);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Progress progress = cache.get(key);
+        if (progress != null) {
+            return progress.position() > 0 ? Optional.of(progress.position()) : Optional.empty();
+        }
+
+        watchProgressTaskExecutor.execute(() -> {
+            Progress loaded = load(key);
+            Progress existing = cache.putIfAbsent(key, loaded);
+            double position = existing != null ? existing.position() : loaded.position();
+            if (position > 0) {
+                onLoaded.accept(position);
+            }
+        });
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "#{@watchProgressProperties.flushInterval.toMillis()}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        earlyFlushScheduled.set(false);
+        try {
+            List<Key> keys = new ArrayList<>(dirty);
+            boolean failed = false;
+            for (int from = 0; from < keys.size() && !failed; from += watchProgressProperties.getBatchSize()) {
+                failed = !send(keys.subList(from, Math.min(from + watchProgressProperties.getBatchSize(), keys.size())));
+            }
+            lastFlushFailed = failed;
+            evictIdle();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean send(List<Key> keys) {
+        List<WatchProgressEntry> entries = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            dirty.remove(key);
+            Progress progress = cache.get(key);
+            if (progress != null) {
+                entries.add(WatchProgressEntry.builder()
+                        .userId(key.userId())
+                        .contentType(key.contentType())
+                        .contentId(key.contentId())
+                        .position(progress.position())
+                        .updatedAt(progress.updatedAt())
+                        .build());
+            }
+        }
+        if (entries.isEmpty()) {
+            return true;
+        }
+
+        try {
+            restTemplate.put(watchProgressProperties.getStorageUrl(), Map.of("entries", entries));
+            return true;
+        } catch (RestClientException e) {
+            log.warn("Failed to save watch progress for {} entries, retrying on next flush: {}", entries.size(), e.getMessage());
+            dirty.addAll(keys);
+            return false;
+        }
+    }
+
+    private Progress load(Key key) {
+        try {
+            WatchProgressEntry entry = restTemplate.getForObject(watchProgressProperties.getStorageUrl() + "/{userId}/{type}/{id}",
+                    WatchProgressEntry.class, key.userId(), key.contentType(), key.contentId());
+            if (entry != null && entry.getPosition() != null) {
+                return new Progress(entry.getPosition(), entry.getUpdatedAt());
+            }
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("No saved watch progress for {}", key);
+        } catch (RestClientException e) {
+            log.warn("Failed to load watch progress for {}: {}", key, e.getMessage());
+            return new Progress(0, LocalDateTime.MIN);
+        }
+        return new Progress(0, LocalDateTime.now());
+    }
+
+    private void evictIdle() {
+        LocalDateTime threshold = LocalDateTime.now().minus(watchProgressProperties.getCacheTtl());
+        cache.entrySet().removeIf(entry -> !dirty.contains(entry.getKey()) && entry.getValue().updatedAt().isBefore(threshold));
+
+        int excess = cache.size() - watchProgressProperties.getMaxCached();
+        if (excess > 0) {
+            cache.entrySet().stream()
+                    .filter(entry -> !dirty.contains(entry.getKey()))
+                    .sorted(Map.Entry.comparingByValue(Comparator.comparing(Progress::updatedAt)))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(cache::remove);
+        }
+    }
+
+    private Key keyFor(String userId, Room room) {
+        if (userId == null || room == null) {
+            return null;
+        }
+        return switch (room.getRoomType()) {
+            case MOVIE -> room.getContentId() != null ? new Key(userId, "MOVIE", room.getContentId()) : null;
+            case SERIES -> room.getCurrentEpisodeId() != null ? new Key(userId, "EPISODE", room.getCurrentEpisodeId()) : null;
+            case CUSTOM -> null;
+        };
+    }
+
+    private record Key(String userId, String contentType, Long contentId) {
+    }
+
+    private record Progress(double position, LocalDateTime updatedAt) {
+    }
+}